@@ -0,0 +1,56 @@
+package delivery_system.common.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 1건의 요청 수 제한 판정 비용 (4 스레드 동시 호출)
+ *
+ * - hotClient   : 모든 스레드가 같은 IP 의 버킷 하나를 CAS 로 갱신 (경합 최대)
+ * - manyClients : 10,000 개 IP 에 고르게 분산
+ * - unmatched   : 규칙에 일치하지 않는 경로 (제한 없음, 경로 비교만)
+ *
+ * 한도를 충분히 크게 두어 항상 허용 경로(CAS 성공)를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class ClientRateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+    private static final String STORE_PATH = "/api/v1/reviews/store/11111111-1111-1111-1111-111111111111";
+
+    private ClientRateLimiter limiter;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Route unlimited = new RateLimitProperties.Route(1_000_000, 1_000_000_000d, 0);
+        limiter = new ClientRateLimiter(
+                Map.of("GET /api/v1/reviews/store/**", unlimited), List.of(), 10, 100_000);
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public ClientRateLimiter.Decision hotClient() {
+        return limiter.acquire("GET", STORE_PATH, "10.0.0.1", null);
+    }
+
+    @Benchmark
+    public ClientRateLimiter.Decision manyClients() {
+        return limiter.acquire("GET", STORE_PATH, clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)], null);
+    }
+
+    @Benchmark
+    public ClientRateLimiter.Decision unmatched() {
+        return limiter.acquire("POST", "/api/v1/reviews/u1/11111111-1111-1111-1111-111111111111/create", "10.0.0.1", null);
+    }
+}
@@ -0,0 +1,91 @@
+package delivery_system.common.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import delivery_system.review.presentation.dto.response.ResReviewDtoV1;
+import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 가게 리뷰 응답(BaseResponse<ResStoreReviewDtoV1>) Jackson 직렬화 비용
+ * Spring MVC 와 같은 기본 설정의 ObjectMapper 를 사용합니다.
+ *
+ * preSerialized* 는 직렬화된 바이트 캐시 적중 시 비용 (앞부분만 새로 쓰고 result 바이트 복사, PreSerializedResponseWriter)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BaseResponseSerializationBenchmark {
+
+    private static final String MESSAGE = "가게 리뷰 조회에 성공하였습니다.";
+
+    @Param({"20", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private BaseResponse<ResStoreReviewDtoV1> response;
+    private PreSerializedResponseWriter writer;
+    private PreSerializedResult result;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<ResReviewDtoV1> reviews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ResReviewDtoV1 review = new ResReviewDtoV1();
+            review.setReviewId(UUID.randomUUID());
+            review.setOrderId(UUID.randomUUID());
+            review.setStoreId(storeId);
+            review.setCustomerId("customer-" + i);
+            review.setRating((short) (i % 5 + 1));
+            review.setContent(i % 3 == 0 ? null : "리뷰 내용입니다 " + i);
+            review.setCreatedAt(now.minusMinutes(i));
+            reviews.add(review);
+        }
+
+        ResStoreReviewDtoV1 store = new ResStoreReviewDtoV1();
+        store.setStoreId(storeId);
+        store.setStoreRatingAvg(3.0);
+        store.setStoreReviewCount((long) size);
+        store.setReviews(reviews);
+        response = BaseResponse.onSuccess(MESSAGE, store);
+
+        writer = new PreSerializedResponseWriter(objectMapper);
+        result = PreSerializedResult.of(objectMapper, store);
+        result.deflated();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 응답 압축(server.compression)과 같이 요청마다 직렬화 + gzip
+    @Benchmark
+    public void writeValueGzip() throws Exception {
+        try (GZIPOutputStream out = new GZIPOutputStream(OutputStream.nullOutputStream(), 8192)) {
+            objectMapper.writeValue(out, response);
+        }
+    }
+
+    @Benchmark
+    public void preSerialized() throws Exception {
+        writer.writeSuccess(OutputStream.nullOutputStream(), MESSAGE, result, false, length -> { });
+    }
+
+    @Benchmark
+    public void preSerializedGzip() throws Exception {
+        writer.writeSuccess(OutputStream.nullOutputStream(), MESSAGE, result, true, length -> { });
+    }
+}
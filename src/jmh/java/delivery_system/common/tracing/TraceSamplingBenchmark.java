@@ -0,0 +1,121 @@
+package delivery_system.common.tracing;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import zipkin2.reporter.brave.MutableSpanBytesEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건(루트 + 하위 스팬 4개)을 추적하는 비용 - 전송은 Zipkin JSON 인코딩까지만 측정
+ *
+ * - alwaysSample : 기존 설정 (probability 1.0, 모든 스팬 인코딩)
+ * - adaptive     : 가게 리뷰 조회 규칙(1/s) + tail 샘플링 (헤드 샘플링에서 빠진 요청은 로컬 기록 후 버림)
+ * - neverSample  : 추적하지 않을 때의 하한
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TraceSamplingBenchmark {
+
+    private static final int CHILD_SPANS = 4;
+
+    private Tracing alwaysSampleTracing;
+    private Tracing adaptiveTracing;
+    private Tracing neverSampleTracing;
+    private HttpServletRequest storeReviewRequest;
+
+    @Setup
+    public void setUp() {
+        alwaysSampleTracing = Tracing.newBuilder()
+                .sampler(Sampler.ALWAYS_SAMPLE)
+                .addSpanHandler(new EncodingSpanHandler())
+                .build();
+
+        SpanHandler reporter = new EncodingSpanHandler();
+        adaptiveTracing = Tracing.newBuilder()
+                .sampler(new AdaptiveTraceSampler(10, Map.of("GET /api/v1/reviews/store/**", 1)))
+                .alwaysSampleLocal()
+                .addSpanHandler(new TailSamplingSpanHandler(reporter, Duration.ofMillis(500), 10_000, 200, new SimpleMeterRegistry()))
+                .addSpanHandler(reporter)
+                .build();
+
+        neverSampleTracing = Tracing.newBuilder()
+                .sampler(Sampler.NEVER_SAMPLE)
+                .addSpanHandler(new EncodingSpanHandler())
+                .build();
+
+        storeReviewRequest = (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getMethod" -> "GET";
+                    case "getRequestURI" -> "/api/v1/reviews/store/11111111-1111-1111-1111-111111111111";
+                    default -> null;
+                });
+    }
+
+    @TearDown
+    public void tearDown() {
+        alwaysSampleTracing.close();
+        adaptiveTracing.close();
+        neverSampleTracing.close();
+    }
+
+    @Benchmark
+    public void alwaysSample(Blackhole blackhole) {
+        traceRequest(alwaysSampleTracing.tracer(), blackhole);
+    }
+
+    @Benchmark
+    public void adaptive(Blackhole blackhole) {
+        AdaptiveTraceSampler.bindRequest(storeReviewRequest);
+        try {
+            traceRequest(adaptiveTracing.tracer(), blackhole);
+        } finally {
+            AdaptiveTraceSampler.clearRequest();
+        }
+    }
+
+    @Benchmark
+    public void neverSample(Blackhole blackhole) {
+        traceRequest(neverSampleTracing.tracer(), blackhole);
+    }
+
+    private void traceRequest(Tracer tracer, Blackhole blackhole) {
+        Span root = tracer.newTrace().name("http get /api/v1/reviews/store/{storeId}").kind(Span.Kind.SERVER)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/reviews/store/{storeId}")
+                .start();
+        for (int i = 0; i < CHILD_SPANS; i++) {
+            Span child = tracer.newChild(root.context()).name("security filterchain").tag("spring.security.filterchain.position", "0").start();
+            blackhole.consume(child.context());
+            child.finish();
+        }
+        root.tag("outcome", "SUCCESS").tag("status", "200").finish();
+    }
+
+    // Zipkin 전송 핸들러 대신 JSON 인코딩까지만 수행
+    private static class EncodingSpanHandler extends SpanHandler {
+
+        @Override
+        public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+            if (cause == Cause.FINISHED) {
+                MutableSpanBytesEncoder.JSON_V2.encode(span);
+            }
+            return true;
+        }
+    }
+}
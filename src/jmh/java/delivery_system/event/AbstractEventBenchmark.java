@@ -0,0 +1,67 @@
+package delivery_system.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 JSON 직렬화 비용
+ *
+ * - toJson       : AbstractEvent.toJson (호출마다 ObjectMapper 생성)
+ * - sharedMapper : 재사용 ObjectMapper 로 같은 이벤트 직렬화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AbstractEventBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SampleEvent event;
+
+    @Setup
+    public void setUp() {
+        event = new SampleEvent(UUID.randomUUID(), UUID.randomUUID(), "customer-1", (short) 5);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return event.toJson();
+    }
+
+    @Benchmark
+    public String sharedMapper() throws Exception {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    public static class SampleEvent extends AbstractEvent {
+        private final UUID reviewId;
+        private final UUID storeId;
+        private final String customerId;
+        private final Short rating;
+
+        public SampleEvent(UUID reviewId, UUID storeId, String customerId, Short rating) {
+            this.reviewId = reviewId;
+            this.storeId = storeId;
+            this.customerId = customerId;
+            this.rating = rating;
+        }
+
+        public UUID getReviewId() {
+            return reviewId;
+        }
+
+        public UUID getStoreId() {
+            return storeId;
+        }
+
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        public Short getRating() {
+            return rating;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package delivery_system.review.application.service;
+
+import delivery_system.review.domain.entity.ReviewEntityV1;
+import delivery_system.review.domain.repository.ReviewView;
+import delivery_system.review.presentation.dto.response.ResReviewDtoV1;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게 리뷰 페이지 조회 비용 - DB 조회 + hydration + 응답 변환 + 트랜잭션 종료까지 (실제 PostgreSQL 필요)
+ *
+ * - entities         : 엔티티 조회 (기존 방식, 영속성 컨텍스트 등록 + 로딩 스냅숏 + 커밋 시 dirty checking)
+ * - readOnlyEntities : 엔티티 조회, 읽기 전용 세션 (스냅숏/dirty checking 없음, 엔티티 hydration 은 그대로)
+ * - views            : ReviewView projection, 읽기 전용 세션 (현재 방식, ReviewKeysetRepositoryImpl 과 같은 쿼리)
+ *
+ * 접속 정보: 환경 변수 DB_URL / DB_USERNAME / DB_PASSWORD (애플리케이션과 동일)
+ * 대상 가게: 환경 변수 BENCH_STORE_ID, 없으면 표본(TABLESAMPLE 1%)에서 살아있는 리뷰가 가장 많은 가게
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReviewLoadBenchmark {
+
+    private static final String WHERE_STORE_PAGE =
+            " from ReviewEntityV1 r where r.storeId = :storeId and r.deletedAt is null"
+                    + " order by r.createdAt desc, r.reviewId desc";
+
+    private static final String SELECT_VIEW = "select new delivery_system.review.domain.repository.ReviewView("
+            + "r.reviewId, r.orderId, r.storeId, r.customerId, r.rating, r.content, r.createdAt, r.updatedBy, r.updatedAt)";
+
+    @Param({"20", "100"})
+    private int size;
+
+    private SessionFactory sessionFactory;
+    private UUID storeId;
+
+    @Setup
+    public void setUp() {
+        String url = System.getenv("DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DB_URL 환경 변수가 필요합니다. (예: jdbc:postgresql://localhost:5432/review)");
+        }
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(ReviewEntityV1.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getenv().getOrDefault("DB_USERNAME", "postgres"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getenv().getOrDefault("DB_PASSWORD", ""))
+                .setProperty(AvailableSettings.POOL_SIZE, "2")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                .buildSessionFactory();
+
+        String configured = System.getenv("BENCH_STORE_ID");
+        storeId = configured != null && !configured.isBlank()
+                ? UUID.fromString(configured)
+                : sessionFactory.fromSession(session -> session.createNativeQuery(
+                        "SELECT store_id FROM p_review TABLESAMPLE SYSTEM (1) WHERE deleted_at IS NULL"
+                                + " GROUP BY store_id ORDER BY count(*) DESC LIMIT 1",
+                        UUID.class).getSingleResult());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<ResReviewDtoV1> entities() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery("select r" + WHERE_STORE_PAGE, ReviewEntityV1.class)
+                .setParameter("storeId", storeId)
+                .setMaxResults(size)
+                .getResultList()
+                .stream().map(ReviewService::convertToResponse).toList());
+    }
+
+    @Benchmark
+    public List<ResReviewDtoV1> readOnlyEntities() {
+        return sessionFactory.fromTransaction(session -> {
+            readOnly(session);
+            return session.createSelectionQuery("select r" + WHERE_STORE_PAGE, ReviewEntityV1.class)
+                    .setParameter("storeId", storeId)
+                    .setMaxResults(size)
+                    .getResultList()
+                    .stream().map(ReviewService::convertToResponse).toList();
+        });
+    }
+
+    @Benchmark
+    public List<ResReviewDtoV1> views() {
+        return sessionFactory.fromTransaction(session -> {
+            readOnly(session);
+            return session.createSelectionQuery(SELECT_VIEW + WHERE_STORE_PAGE, ReviewView.class)
+                    .setParameter("storeId", storeId)
+                    .setMaxResults(size)
+                    .getResultList()
+                    .stream().map(ReviewService::convertToResponse).toList();
+        });
+    }
+
+    // @Transactional(readOnly = true) 와 같은 세션 설정 (Spring 의 HibernateJpaDialect)
+    private static void readOnly(Session session) {
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+    }
+}
@@ -0,0 +1,62 @@
+package delivery_system.review.application.service;
+
+import delivery_system.review.domain.entity.ReviewEntityV1;
+import delivery_system.review.domain.repository.ReviewView;
+import delivery_system.review.presentation.dto.response.ResReviewDtoV1;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 목록 응답 변환 비용 (ReviewService.convertToResponse)
+ * 엔티티 기반 변환과 ReviewView projection 기반 변환을 비교합니다.
+ * DB 조회/엔티티 hydration 비용은 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReviewMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<ReviewEntityV1> entities;
+    private List<ReviewView> views;
+
+    @Setup
+    public void setUp() {
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        entities = new ArrayList<>(size);
+        views = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ReviewEntityV1 entity = new ReviewEntityV1();
+            entity.setReviewId(UUID.randomUUID());
+            entity.setOrderId(UUID.randomUUID());
+            entity.setStoreId(storeId);
+            entity.setCustomerId("customer-" + i);
+            entity.setRating((short) (i % 5 + 1));
+            entity.setContent(i % 3 == 0 ? null : "리뷰 내용입니다 " + i);
+            entity.setCreatedAt(now.minusMinutes(i));
+            entities.add(entity);
+
+            views.add(new ReviewView(entity.getReviewId(), entity.getOrderId(), entity.getStoreId(),
+                    entity.getCustomerId(), entity.getRating(), entity.getContent(), entity.getCreatedAt(),
+                    null, null));
+        }
+    }
+
+    @Benchmark
+    public List<ResReviewDtoV1> fromEntities() {
+        return entities.stream().map(ReviewService::convertToResponse).toList();
+    }
+
+    @Benchmark
+    public List<ResReviewDtoV1> fromViews() {
+        return views.stream().map(ReviewService::convertToResponse).toList();
+    }
+}
@@ -0,0 +1,77 @@
+package delivery_system.review.application.service;
+
+import delivery_system.review.domain.StoreRatingDelta;
+import delivery_system.review.domain.entity.StoreRatingSummaryEntityV1;
+import delivery_system.review.presentation.dto.response.ResReviewDtoV1;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게 평점 평균 / 내용 있는 리뷰 수 계산 비용
+ *
+ * - legacyStreamAverage : 기존 getReviewByStoreId 방식 (목록 스트림 2회 + 호출마다 DecimalFormat 생성)
+ * - legacyDecimalFormat : 위 방식 중 DecimalFormat 생성/포맷/파싱 부분만
+ * - summaryRatingAvg    : 현재 방식 (p_store_rating_summary 집계의 BigDecimal 반올림)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StoreRatingAverageBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<ResReviewDtoV1> reviews;
+    private StoreRatingSummaryEntityV1 summary;
+    private double rawAverage;
+
+    @Setup
+    public void setUp() {
+        reviews = new ArrayList<>(size);
+        StoreRatingDelta total = StoreRatingDelta.ZERO;
+        for (int i = 0; i < size; i++) {
+            ResReviewDtoV1 review = new ResReviewDtoV1();
+            review.setRating((short) (i % 5 + 1));
+            review.setContent(i % 3 == 0 ? null : "리뷰 내용입니다 " + i);
+            reviews.add(review);
+            total = total.plus(StoreRatingDelta.ofCreated(review.getRating(), review.getContent()));
+        }
+
+        summary = new StoreRatingSummaryEntityV1();
+        summary.setRatingSum(total.ratingSum());
+        summary.setReviewCount(total.reviewCount());
+        summary.setContentCount(total.contentCount());
+        rawAverage = (double) total.ratingSum() / total.reviewCount();
+    }
+
+    @Benchmark
+    public void legacyStreamAverage(Blackhole blackhole) {
+        OptionalDouble averageRating = reviews.stream()
+                .mapToInt(ResReviewDtoV1::getRating)
+                .average();
+        long contentCount = reviews.stream()
+                .filter(review -> review.getContent() != null && !review.getContent().trim().isEmpty())
+                .count();
+        DecimalFormat df = new DecimalFormat("0.0");
+        blackhole.consume(Double.parseDouble(df.format(averageRating.orElse(0.0))));
+        blackhole.consume(contentCount);
+    }
+
+    @Benchmark
+    public double legacyDecimalFormat() {
+        DecimalFormat df = new DecimalFormat("0.0");
+        return Double.parseDouble(df.format(rawAverage));
+    }
+
+    @Benchmark
+    public void summaryRatingAvg(Blackhole blackhole) {
+        blackhole.consume(summary.getRatingAvg());
+        blackhole.consume(summary.getContentCount());
+    }
+}
@@ -0,0 +1,75 @@
+package delivery_system.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 + 사용자 정보 추출 비용 (JwtAuthenticationFilter 요청당 1회)
+ *
+ * - legacyFourParses : 기존 방식 (validateToken 2회 + getUserId + getRole, 호출마다 JwtParser 생성)
+ * - singleParse      : 재사용 JwtParser 로 1회 파싱 (JwtUtil.verify 캐시 미스 경로)
+ * - verifyCached     : JwtUtil.verify 캐시 적중 경로
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "0123456789".repeat(5);
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        jwtUtil = new JwtUtil(SECRET, 10_000, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        token = Jwts.builder()
+                .subject("user-1")
+                .claim("role", "CUSTOMER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(secretKey)
+                .compact();
+        jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        Date expiration = legacyClaims().getExpiration();
+        blackhole.consume(expiration.before(new Date()));
+        blackhole.consume(legacyClaims().getSubject());
+        blackhole.consume(legacyClaims().get("role", String.class));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        blackhole.consume(claims.getSubject());
+        blackhole.consume(claims.get("role", String.class));
+        blackhole.consume(claims.getExpiration());
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCached() {
+        return jwtUtil.verify(token);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -1,23 +1,87 @@
 package delivery_system.common;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import java.util.function.Consumer;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.transaction.TransactionException;
 
+import java.time.Duration;
+
+/**
+ * Kafka 컨슈머 컨테이너 설정
+ *
+ * 배치 모드 컨슈머(PolicyHandler.handleMessage)는 바인더의 재시도/DLQ 설정이 적용되지 않으므로
+ * 컨테이너 에러 핸들러를 직접 지정합니다.
+ * - 배치 처리 중 예외: 지수 백오프로 배치 전체를 재시도 (오프셋은 성공한 배치만 커밋)
+ * - DB 실패(DataAccessException / TransactionException): 재시도 횟수와 관계없이 dead-letter 로 보내지 않고
+ *   배치를 처음부터 다시 받아 계속 재시도 (DB 장애가 길어져도 정상 이벤트를 잃지 않음)
+ * - 그 외 예외의 재시도 초과: 배치의 레코드를 dead-letter 토픽으로 보내고 다음 배치로 진행
+ *   (형식이 잘못된 레코드는 PolicyHandler 가 레코드 단위로 바로 dead-letter 로 보냄)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 컨테이너 스레드를 가상 스레드로 실행
+ */
 @Configuration
 public class KafkaProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaProcessor.class);
 
     @Bean
-    public Consumer<String> eventConsumer() {
-        return message -> {
-            logger.info("📨 Kafka 메시지 수신: {}", message);
-            System.out.println("📨 UserService에서 Kafka 메시지 수신: " + message);
+    public ListenerContainerCustomizer<AbstractMessageListenerContainer<?, ?>> batchErrorHandlerCustomizer(
+            PolicyDeadLetterPublisher deadLetterPublisher,
+            @Value("${review.policy.retry.max-retries:5}") int maxRetries,
+            @Value("${review.policy.retry.initial-interval:1s}") Duration initialInterval,
+            @Value("${review.policy.retry.max-interval:30s}") Duration maxInterval,
+            Environment environment) {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        return (container, destinationName, group) -> {
+            if (virtualThreads) {
+                // 가상 스레드 모드에서는 컨슈머 poll/리스너 스레드도 가상 스레드로 실행
+                SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor(destinationName + "-");
+                listenerExecutor.setVirtualThreads(true);
+                container.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+            }
+
+            ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+            backOff.setInitialInterval(initialInterval.toMillis());
+            backOff.setMaxInterval(maxInterval.toMillis());
+
+            DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, e) -> deadLetter(deadLetterPublisher, record, e), backOff);
+            container.setCommonErrorHandler(errorHandler);
+            logger.info("Kafka 컨슈머 에러 핸들러 설정 - destination: {}, group: {}, maxRetries: {}, virtualThreads: {}",
+                    destinationName, group, maxRetries, virtualThreads);
         };
     }
 
-    // StreamBridge를 사용한 수동 메시지 발송으로 대체
+    private static void deadLetter(PolicyDeadLetterPublisher deadLetterPublisher, ConsumerRecord<?, ?> record, Exception e) {
+        // 복구 단계에서 예외를 던지면 에러 핸들러가 배치 시작 오프셋으로 되돌리므로 다음 poll 에서 배치 전체를 다시 처리
+        if (isDatabaseFailure(e)) {
+            throw new KafkaException("DB 처리 실패로 배치를 dead-letter 로 보내지 않고 다시 처리합니다. - topic: "
+                    + record.topic() + ", partition: " + record.partition() + ", offset: " + record.offset(), e);
+        }
+        // ListenerExecutionFailedException 등 래퍼 대신 실제 실패 원인을 헤더에 기록
+        deadLetterPublisher.publish(record.value(), record.key(), record.topic(), record.partition(), record.offset(),
+                NestedExceptionUtils.getMostSpecificCause(e));
+    }
+
+    // DB 접근/트랜잭션 실패 (커넥션 획득 실패는 CannotCreateTransactionException)
+    private static boolean isDatabaseFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessException || cause instanceof TransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
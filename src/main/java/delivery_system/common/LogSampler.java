@@ -0,0 +1,35 @@
+package delivery_system.common;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 샘플링 - interval 마다 최대 한 번만 기록하고, 그 사이에 생략한 건수를 다음 기록에 함께 남깁니다.
+ * 인증 실패처럼 공격/장애 시 요청마다 쏟아질 수 있는 로그에 사용합니다.
+ *
+ * 사용 예:
+ * long suppressed = sampler.sample();
+ * if (suppressed >= 0) logger.warn("... suppressed: {}", suppressed);
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final AtomicLong lastLoggedAt;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.lastLoggedAt = new AtomicLong(System.nanoTime() - intervalNanos);
+    }
+
+    // 이번에 기록할 차례면 직전 기록 이후 생략한 건수, 아니면 -1
+    public long sample() {
+        long now = System.nanoTime();
+        long last = lastLoggedAt.get();
+        if (now - last >= intervalNanos && lastLoggedAt.compareAndSet(last, now)) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
@@ -0,0 +1,50 @@
+package delivery_system.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리할 수 없는 정책 이벤트를 dead-letter 토픽으로 전달
+ * 원본 토픽/파티션/오프셋과 실패 사유를 헤더에 담아 원본 payload 그대로 발행합니다.
+ */
+@Component
+public class PolicyDeadLetterPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicyDeadLetterPublisher.class);
+
+    private final StreamBridge streamBridge;
+    private final String deadLetterTopic;
+
+    public PolicyDeadLetterPublisher(StreamBridge streamBridge,
+                                     @Value("${review.policy.dead-letter-topic:error.untitled.reviewService}") String deadLetterTopic) {
+        this.streamBridge = streamBridge;
+        this.deadLetterTopic = deadLetterTopic;
+    }
+
+    public void publish(Object payload, Object key, String topic, Integer partition, Long offset, Throwable cause) {
+        logger.warn("정책 이벤트 dead-letter 전송 - topic: {}, partition: {}, offset: {}, reason: {}",
+                topic, partition, offset, cause.getMessage());
+
+        MessageBuilder<Object> builder = MessageBuilder.withPayload(payload == null ? new byte[0] : payload)
+                .setHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC, topic)
+                .setHeader(KafkaHeaders.DLT_ORIGINAL_PARTITION, partition)
+                .setHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET, offset)
+                .setHeader(KafkaHeaders.DLT_EXCEPTION_FQCN, cause.getClass().getName())
+                .setHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE, String.valueOf(cause.getMessage()));
+        if (key != null) {
+            builder.setHeader(KafkaHeaders.KEY, key);
+        }
+        Message<Object> message = builder.build();
+
+        // 전송에 실패하면 예외를 던져 배치를 다시 처리하도록 함 (오프셋 미커밋)
+        if (!streamBridge.send(deadLetterTopic, message)) {
+            throw new IllegalStateException("dead-letter 전송 실패 - topic: " + deadLetterTopic);
+        }
+    }
+}
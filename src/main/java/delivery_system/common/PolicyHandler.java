@@ -1,33 +1,189 @@
 package delivery_system.common;
 
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import delivery_system.event.inbox.ProcessedEventLedger;
+import delivery_system.review.application.service.ReviewService;
+import delivery_system.review.domain.ReviewPurgeTargets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
-import org.springframework.stereotype.Service;
-import delivery_system.review.domain.repository.ReviewRepositoryV1;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Consumer;
 
-@Service
-@Transactional
+/**
+ * 주문/가게/사용자 이벤트 배치 컨슈머
+ *
+ * poll 한 번에 받은 레코드를 이벤트 종류/대상 아이디별로 모아 리뷰를 삭제합니다. (ReviewService.purgeReviews)
+ * 삭제는 대상 종류별로 배치의 아이디 전체를 한 문장으로 청크 단위 트랜잭션에서 처리하므로,
+ * 큰 가게/사용자도 한 트랜잭션이 잠그는 행 수는 청크 크기로 제한됩니다.
+ *
+ * - StoreDeleted   {"storeId": ...} : 가게 리뷰 전체 삭제
+ * - UserDeleted    {"userId": ...}  : 사용자 리뷰 전체 삭제
+ * - OrderCancelled {"orderId": ...} : 주문 리뷰 삭제
+ * - 그 외 이벤트(리뷰 서비스 자신의 이벤트 포함)는 무시합니다.
+ *
+ * 재전달(at-least-once)된 이벤트는 ProcessedEventLedger 로 걸러 한 번만 적용합니다.
+ * 이벤트 키는 eventId 가 있으면 그 값, 없으면 토픽/파티션/오프셋입니다.
+ *
+ * JSON 이 아니거나 대상 아이디가 없는 레코드는 dead-letter 토픽으로 보내고 나머지는 계속 처리합니다.
+ * DB 처리 실패 시에는 예외를 던져 배치 전체를 재시도합니다. (KafkaProcessor 에러 핸들러, DB 장애 중에는 dead-letter 로 보내지 않음)
+ */
 @Configuration
 public class PolicyHandler {
 
-    private final ReviewRepositoryV1 reviewRepository;
+    private static final Logger logger = LoggerFactory.getLogger(PolicyHandler.class);
 
-    public PolicyHandler(ReviewRepositoryV1 reviewRepository) {
-        this.reviewRepository = reviewRepository;
+    private final ReviewService reviewService;
+    private final PolicyDeadLetterPublisher deadLetterPublisher;
+    private final ObjectMapper objectMapper;
+    private final ProcessedEventLedger processedEventLedger;
+    private final TransactionTemplate transactionTemplate;
+
+    public PolicyHandler(ReviewService reviewService,
+                         PolicyDeadLetterPublisher deadLetterPublisher,
+                         ObjectMapper objectMapper,
+                         ProcessedEventLedger processedEventLedger,
+                         PlatformTransactionManager transactionManager) {
+        this.reviewService = reviewService;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.objectMapper = objectMapper;
+        this.processedEventLedger = processedEventLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    // ✅ Kafka 메시지를 수신하는 함수형 Consumer
+    // ✅ Kafka 메시지를 배치로 수신하는 함수형 Consumer (consumer.batch-mode: true)
     @Bean
-    public Consumer<Message<String>> handleMessage() {
+    public Consumer<Message<List<String>>> handleMessage() {
         return message -> {
-            String eventString = message.getPayload();
-            System.out.println("📥 Received event: " + eventString);
+            List<String> payloads = message.getPayload();
+            if (payloads.isEmpty()) {
+                return;
+            }
+            MessageHeaders headers = message.getHeaders();
+
+            // 이벤트 키 -> 정책 이벤트 (같은 배치 안의 중복도 한 번만 처리)
+            Map<String, PolicyEvent> events = new LinkedHashMap<>();
+            int ignored = 0;
+            int deadLettered = 0;
+            int duplicates = 0;
+
+            for (int i = 0; i < payloads.size(); i++) {
+                String payload = payloads.get(i);
+                try {
+                    JsonNode event = objectMapper.readTree(payload);
+                    String eventType = event.path("eventType").asText("");
+                    String targetId = switch (eventType) {
+                        case "StoreDeleted" -> UUID.fromString(requiredText(event, "storeId")).toString();
+                        case "UserDeleted" -> requiredText(event, "userId");
+                        case "OrderCancelled" -> UUID.fromString(requiredText(event, "orderId")).toString();
+                        default -> null;
+                    };
+                    if (targetId == null) {
+                        ignored++;
+                        continue;
+                    }
+                    String eventKey = eventKey(event, headers, i);
+                    if (processedEventLedger.isKnownProcessed(eventKey)
+                            || events.putIfAbsent(eventKey, new PolicyEvent(eventType, targetId)) != null) {
+                        duplicates++;
+                    }
+                } catch (Exception e) {
+                    deadLetterPublisher.publish(payload, headerAt(headers, KafkaHeaders.RECEIVED_KEY, i),
+                            (String) headerAt(headers, KafkaHeaders.RECEIVED_TOPIC, i),
+                            (Integer) headerAt(headers, KafkaHeaders.RECEIVED_PARTITION, i),
+                            (Long) headerAt(headers, KafkaHeaders.OFFSET, i), e);
+                    deadLettered++;
+                }
+            }
 
-            // TODO: 여기에 실제 로직 작성 (예: DB 업데이트 등)
+            BatchResult result = events.isEmpty() ? BatchResult.EMPTY : purge(events);
+            logger.info("정책 이벤트 배치 처리 - records: {}, targets: {}, deletedReviews: {}, ignored: {}, duplicates: {}, deadLettered: {}",
+                    payloads.size(), result.targets(), result.deleted(), ignored,
+                    duplicates + events.size() - result.applied(), deadLettered);
         };
     }
+
+    // 원장에 없는 이벤트만 리뷰 삭제(대상별 청크 단위 트랜잭션) 후 처리 기록 커밋
+    // soft delete 는 이미 삭제된 리뷰를 건너뛰므로, 기록 전에 실패해서 재전달되면 같은 삭제를 다시 해도 결과가 같습니다.
+    private BatchResult purge(Map<String, PolicyEvent> events) {
+        Set<String> pending = processedEventLedger.unrecorded(events.keySet());
+        if (pending.isEmpty()) {
+            return BatchResult.EMPTY;
+        }
+        ReviewPurgeTargets targets = toTargets(events, pending);
+        int deleted = reviewService.purgeReviews(targets);
+        transactionTemplate.executeWithoutResult(status -> processedEventLedger.record(pending));
+        return new BatchResult(pending.size(), targets.size(), deleted);
+    }
+
+    // 처리할 이벤트만 대상 아이디로 모음
+    private static ReviewPurgeTargets toTargets(Map<String, PolicyEvent> events, Set<String> pending) {
+        Set<UUID> storeIds = new HashSet<>();
+        Set<String> customerIds = new HashSet<>();
+        Set<UUID> orderIds = new HashSet<>();
+        events.forEach((eventKey, event) -> {
+            if (!pending.contains(eventKey)) {
+                return;
+            }
+            switch (event.eventType()) {
+                case "StoreDeleted" -> storeIds.add(UUID.fromString(event.targetId()));
+                case "UserDeleted" -> customerIds.add(event.targetId());
+                case "OrderCancelled" -> orderIds.add(UUID.fromString(event.targetId()));
+                default -> throw new IllegalStateException("처리할 수 없는 이벤트: " + event.eventType());
+            }
+        });
+        return new ReviewPurgeTargets(storeIds, customerIds, orderIds);
+    }
+
+    // 이벤트 아이디가 있으면 그대로, 없으면 토픽/파티션/오프셋으로 식별
+    private static String eventKey(JsonNode event, MessageHeaders headers, int index) {
+        String eventId = event.path("eventId").asText(null);
+        if (eventId != null && !eventId.isBlank()) {
+            return "id:" + eventId;
+        }
+        Object topic = headerAt(headers, KafkaHeaders.RECEIVED_TOPIC, index);
+        Object partition = headerAt(headers, KafkaHeaders.RECEIVED_PARTITION, index);
+        Object offset = headerAt(headers, KafkaHeaders.OFFSET, index);
+        if (topic == null || partition == null || offset == null) {
+            throw new IllegalArgumentException("이벤트 아이디와 Kafka 오프셋 정보가 모두 없습니다.");
+        }
+        return topic + "-" + partition + "@" + offset;
+    }
+
+    private static String requiredText(JsonNode event, String field) {
+        String value = event.path(field).asText(null);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(event.path("eventType").asText() + " 이벤트에 " + field + " 가 없습니다.");
+        }
+        return value;
+    }
+
+    // 배치 모드에서는 레코드별 헤더가 List 로 전달됨
+    private static Object headerAt(MessageHeaders headers, String name, int index) {
+        Object values = headers.get(name);
+        if (values instanceof List<?> list && index < list.size()) {
+            return list.get(index);
+        }
+        return null;
+    }
+
+    private record PolicyEvent(String eventType, String targetId) {
+    }
+
+    private record BatchResult(int applied, int targets, int deleted) {
+        static final BatchResult EMPTY = new BatchResult(0, 0, 0);
+    }
 }
@@ -0,0 +1,53 @@
+package delivery_system.common;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Locale;
+
+/**
+ * "메서드 경로패턴" 형식의 요청 규칙 (요청 수 제한, 엔드포인트별 추적 샘플링에서 사용)
+ *
+ * - 규칙 키: "GET /api/v1/reviews/store/**" (메서드 생략 시 모든 메서드)
+ * - prefix: "/a/b/**" 처럼 끝의 ** 외에 와일드카드가 없으면 문자열 비교로 처리 (AntPathMatcher 생략)
+ *
+ * 사용 예:
+ * RequestRule rule = RequestRule.parse("GET /api/v1/reviews/store/**", "요청 수 제한 규칙");
+ * if (rule.matches(request.getMethod(), request.getRequestURI())) { ... }
+ */
+public record RequestRule(String method, String pattern, String prefix) {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    // 형식이 틀리면 IllegalArgumentException (ruleName 은 오류 메시지에 사용)
+    public static RequestRule parse(String rule, String ruleName) {
+        String[] parts = rule.trim().split("\\s+");
+        if (parts.length == 1 && parts[0].startsWith("/")) {
+            return of(null, parts[0]);
+        }
+        if (parts.length == 2 && parts[1].startsWith("/")) {
+            return of(parts[0].toUpperCase(Locale.ROOT), parts[1]);
+        }
+        throw new IllegalArgumentException(ruleName + " 형식 오류 (예: \"GET /api/v1/reviews/store/**\"): " + rule);
+    }
+
+    private static RequestRule of(String method, String pattern) {
+        String prefix = null;
+        if (pattern.endsWith("/**")) {
+            String head = pattern.substring(0, pattern.length() - 3);
+            if (!PATH_MATCHER.isPattern(head)) {
+                prefix = head;
+            }
+        }
+        return new RequestRule(method, pattern, prefix);
+    }
+
+    public boolean matches(String requestMethod, String path) {
+        if (method != null && !method.equals(requestMethod)) {
+            return false;
+        }
+        if (prefix != null) {
+            return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+        }
+        return PATH_MATCHER.match(pattern, path);
+    }
+}
@@ -1,5 +1,6 @@
 package delivery_system.common.exception;
 
+import delivery_system.common.exception.review.OrderVerificationUnavailableException;
 import delivery_system.common.exception.review.ReviewException;
 import delivery_system.common.response.BaseResponse;
 import org.springframework.http.HttpStatus;
@@ -26,4 +27,11 @@ public class GlobalExceptionAdvice {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    // 주문 서비스 장애로 주문을 확인하지 못함 (잠시 후 재시도 가능)
+    @ExceptionHandler(OrderVerificationUnavailableException.class)
+    public ResponseEntity<BaseResponse<Object>> onOrderVerificationUnavailable(OrderVerificationUnavailableException e) {
+        BaseResponse<Object> response = BaseResponse.onFailure("ORDER_VERIFICATION_UNAVAILABLE", e.getMessage(), null);
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package delivery_system.common.exception.review;
+
+/**
+ * 주문 서비스를 호출할 수 없어 주문을 확인하지 못한 경우 (503 응답)
+ *
+ * 사용 예:
+ * throw new OrderVerificationUnavailableException("주문 정보를 확인할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+ */
+public class OrderVerificationUnavailableException extends ReviewException {
+
+    public OrderVerificationUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,135 @@
+package delivery_system.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import delivery_system.common.RequestRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경로 규칙별 / 클라이언트별 토큰 버킷
+ *
+ * - 규칙 키: "GET /api/v1/reviews/store/**" (메서드 생략 시 모든 메서드, RequestRule), 먼저 등록된 규칙부터 비교
+ * - 클라이언트: 등록된 API 키를 보내면 키, 아니면 요청 IP (등록되지 않은 키는 무시 - 키를 바꿔 가며 한도를 피할 수 없음)
+ * - 버킷은 GCRA 방식으로 "다음 요청이 허용되는 이론상 시각" 하나만 AtomicLong 에 두고 CAS 로 갱신합니다.
+ *   capacity 개까지 한 번에 허용하고 이후 1 / refillPerSecond 초마다 한 건씩 허용하는 토큰 버킷과 같으며, 잠금이 없습니다.
+ * - 버킷 저장소는 규칙마다 크기 제한(maxClients)만 있는 Caffeine 캐시 (자주 오지 않는 클라이언트부터 제거)
+ *   한동안 요청이 없던 버킷은 가득 찬 버킷과 같아서 제거돼도 판정이 바뀌지 않으므로 시간 만료는 두지 않습니다.
+ *   (expireAfterAccess 는 조회마다 시계를 읽어 판정 비용이 3배 이상 늘어남 - ClientRateLimiterBenchmark)
+ *
+ * 사용 예:
+ * ClientRateLimiter.Decision decision = limiter.acquire("GET", "/api/v1/reviews/store/...", "10.0.0.1", null);
+ * if (!decision.allowed()) { ... decision.retryAfterSeconds() ... }
+ * decision.release(); // 처리가 끝나면 동시 처리 수 반납
+ */
+public class ClientRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final String API_KEY_PREFIX = "key:";
+
+    private final List<RouteLimiter> routes;
+    private final Set<String> apiKeys;
+
+    public ClientRateLimiter(Map<String, RateLimitProperties.Route> routes, List<String> apiKeys, int apiKeyMultiplier,
+                             long maxClients) {
+        List<RouteLimiter> limiters = new ArrayList<>();
+        for (Map.Entry<String, RateLimitProperties.Route> entry : routes.entrySet()) {
+            limiters.add(RouteLimiter.parse(entry.getKey(), entry.getValue(), apiKeyMultiplier, maxClients));
+        }
+        this.routes = List.copyOf(limiters);
+        this.apiKeys = Set.copyOf(apiKeys);
+    }
+
+    // 처음 일치한 규칙으로 판정 (일치하는 규칙이 없으면 null)
+    public Decision acquire(String method, String path, String clientIp, String apiKey) {
+        for (RouteLimiter route : routes) {
+            if (route.matches(method, path)) {
+                boolean keyed = apiKey != null && apiKeys.contains(apiKey);
+                return route.acquire(keyed ? API_KEY_PREFIX + apiKey : clientIp, keyed, System.nanoTime());
+            }
+        }
+        return null;
+    }
+
+    // 규칙 키 목록 (비교 순서대로)
+    public List<String> rules() {
+        return routes.stream().map(RouteLimiter::rule).toList();
+    }
+
+    public enum Result {
+        ALLOWED, LIMITED, SHED
+    }
+
+    /**
+     * 판정 결과
+     * ALLOWED 이면 처리가 끝난 뒤 release() 를 호출해야 합니다. (동시 처리 수 반납)
+     */
+    public record Decision(String rule, Result result, long retryAfterSeconds, AtomicInteger inFlight) {
+
+        public boolean allowed() {
+            return result == Result.ALLOWED;
+        }
+
+        public void release() {
+            if (inFlight != null) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private record RouteLimiter(String rule, RequestRule requestRule,
+                                long intervalNanos, long burstNanos, long keyIntervalNanos, long keyBurstNanos,
+                                int maxInFlight, AtomicInteger inFlight, Cache<String, AtomicLong> buckets) {
+
+        static RouteLimiter parse(String rule, RateLimitProperties.Route limit, int apiKeyMultiplier,
+                                  long maxClients) {
+            if (limit.capacity() < 1 || limit.refillPerSecond() <= 0 || limit.maxInFlight() < 0 || apiKeyMultiplier < 1) {
+                throw new IllegalArgumentException("요청 수 제한 값 오류 (capacity >= 1, refill-per-second > 0, max-in-flight >= 0) - rule: " + rule);
+            }
+            RequestRule requestRule = RequestRule.parse(rule, "요청 수 제한 규칙");
+
+            long interval = Math.max(1L, (long) (NANOS_PER_SECOND / limit.refillPerSecond()));
+            long keyInterval = Math.max(1L, interval / apiKeyMultiplier);
+            Cache<String, AtomicLong> buckets = Caffeine.newBuilder()
+                    .maximumSize(maxClients)
+                    .build();
+            return new RouteLimiter(rule.trim(), requestRule,
+                    interval, interval * limit.capacity(),
+                    keyInterval, keyInterval * (long) limit.capacity() * apiKeyMultiplier,
+                    limit.maxInFlight(), new AtomicInteger(), buckets);
+        }
+
+        boolean matches(String requestMethod, String path) {
+            return requestRule.matches(requestMethod, path);
+        }
+
+        Decision acquire(String client, boolean keyed, long now) {
+            long interval = keyed ? keyIntervalNanos : intervalNanos;
+            long burst = keyed ? keyBurstNanos : burstNanos;
+            AtomicLong theoreticalArrival = buckets.get(client, key -> new AtomicLong(now));
+            while (true) {
+                long current = theoreticalArrival.get();
+                // 한동안 요청이 없었으면 지금부터 다시 계산 (버킷이 가득 찬 상태)
+                long next = (current - now < 0 ? now : current) + interval;
+                long wait = next - now - burst;
+                if (wait > 0) {
+                    return new Decision(rule, Result.LIMITED, Math.max(1L, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND), null);
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+            if (maxInFlight > 0 && inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                return new Decision(rule, Result.SHED, 1L, null);
+            }
+            return new Decision(rule, Result.ALLOWED, 0L, maxInFlight > 0 ? inFlight : null);
+        }
+    }
+}
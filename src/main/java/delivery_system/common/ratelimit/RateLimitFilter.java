@@ -0,0 +1,111 @@
+package delivery_system.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import delivery_system.common.LogSampler;
+import delivery_system.common.response.BaseResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 클라이언트별 요청 수 제한 / 과부하 시 요청 차단 필터
+ *
+ * Spring Security 필터 체인(JwtAuthenticationFilter)보다 먼저 실행되어, 인증 없이 열려 있는 조회 API 를
+ * 토큰 검증이나 DB 조회 전에 막습니다.
+ * - 클라이언트 한도 초과: 429 TOO_MANY_REQUESTS + Retry-After (버킷에 한 건이 다시 찰 때까지의 초)
+ * - 규칙의 동시 처리 수 초과: 503 SERVICE_OVERLOADED + Retry-After: 1
+ * - 지표: review.ratelimit.requests (rule, result=allowed|limited|shed)
+ *
+ * 클라이언트 IP 는 request.getRemoteAddr() 입니다. 프록시/로드밸런서 뒤에서는
+ * server.forward-headers-strategy 를 설정해야 X-Forwarded-For 의 원래 IP 로 제한됩니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // GenericFilterBean 의 logger(commons-logging) 와 구분
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String LIMITED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+    private static final String SHED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final ClientRateLimiter limiter;
+    private final String apiKeyHeader;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Map<ClientRateLimiter.Result, Counter>> counters = new HashMap<>();
+    // 차단 로그는 1초에 한 번만 기록 (공격 시 로그 폭주 방지)
+    private final LogSampler rejectLogSampler = new LogSampler(Duration.ofSeconds(1));
+
+    public RateLimitFilter(ClientRateLimiter limiter, String apiKeyHeader, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.apiKeyHeader = apiKeyHeader;
+        this.objectMapper = objectMapper;
+        for (String rule : limiter.rules()) {
+            Map<ClientRateLimiter.Result, Counter> byResult = new EnumMap<>(ClientRateLimiter.Result.class);
+            for (ClientRateLimiter.Result result : ClientRateLimiter.Result.values()) {
+                byResult.put(result, meterRegistry.counter("review.ratelimit.requests",
+                        "rule", rule, "result", result.name().toLowerCase(Locale.ROOT)));
+            }
+            counters.put(rule, byResult);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ClientRateLimiter.Decision decision = limiter.acquire(request.getMethod(), request.getRequestURI(),
+                request.getRemoteAddr(), request.getHeader(apiKeyHeader));
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        counters.get(decision.rule()).get(decision.result()).increment();
+        if (decision.allowed()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                decision.release();
+            }
+            return;
+        }
+
+        long suppressed = rejectLogSampler.sample();
+        if (suppressed >= 0) {
+            log.warn("요청 차단 - rule: {}, result: {}, client: {}, suppressed: {}",
+                    decision.rule(), decision.result(), request.getRemoteAddr(), suppressed);
+        }
+        if (decision.result() == ClientRateLimiter.Result.LIMITED) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", LIMITED_MESSAGE, decision.retryAfterSeconds());
+        } else {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_OVERLOADED", SHED_MESSAGE, decision.retryAfterSeconds());
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String code, String message,
+                        long retryAfterSeconds) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(BaseResponse.onFailure(code, message, null));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,40 @@
+package delivery_system.common.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클라이언트별 요청 수 제한 설정 (review.rate-limit)
+ */
+@ConfigurationProperties("review.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // "메서드 경로패턴" -> 제한 (작성 순서대로 비교, 처음 일치한 규칙 하나만 적용, 일치하지 않으면 제한 없음)
+        Map<String, Route> routes,
+        // 이 헤더에 등록된 API 키를 보내면 IP 대신 키 단위로 제한하고 한도를 api-key-multiplier 배로 늘림
+        @DefaultValue("X-Api-Key") String apiKeyHeader,
+        List<String> apiKeys,
+        @DefaultValue("10") int apiKeyMultiplier,
+        // 규칙당 기억할 최대 클라이언트 수 (넘으면 자주 오지 않는 클라이언트의 버킷부터 삭제)
+        @DefaultValue("100000") long maxClients
+) {
+
+    public RateLimitProperties {
+        routes = routes == null ? Map.of() : new LinkedHashMap<>(routes);
+        apiKeys = apiKeys == null ? List.of() : apiKeys.stream().filter(key -> !key.isBlank()).toList();
+    }
+
+    /**
+     * 규칙 하나의 한도
+     *
+     * @param capacity        한 번에 보낼 수 있는 최대 요청 수 (버킷 크기)
+     * @param refillPerSecond 초당 채워지는 요청 수 (지속 가능한 요청률)
+     * @param maxInFlight     모든 클라이언트를 합친 동시 처리 요청 수 상한, 넘으면 503 (0 이면 제한 없음)
+     */
+    public record Route(int capacity, double refillPerSecond, @DefaultValue("0") int maxInFlight) {
+    }
+}
@@ -0,0 +1,60 @@
+package delivery_system.common.response;
+
+/**
+ * CRC-32 이어붙이기 (zlib crc32_combine_gen / crc32_combine_op 이식)
+ *
+ * crc(A + B) = combine(crc(A), crc(B), shift(len(B)))
+ * shift 는 B 의 길이로만 정해지므로 미리 계산해 두면 A 가 바뀌어도 B 를 다시 읽지 않습니다.
+ */
+final class Crc32Combine {
+
+    private static final int POLY = 0xedb88320;
+
+    // x^(2^n) mod p
+    private static final int[] X2N = new int[32];
+
+    static {
+        int p = 1 << 30;
+        X2N[0] = p;
+        for (int n = 1; n < 32; n++) {
+            p = multModP(p, p);
+            X2N[n] = p;
+        }
+    }
+
+    private Crc32Combine() {
+    }
+
+    // 뒤에 붙일 데이터 길이(바이트)에 대한 연산자
+    static int shift(long length) {
+        int p = 1 << 31;
+        int k = 3;
+        for (long n = length; n != 0; n >>>= 1, k++) {
+            if ((n & 1) != 0) {
+                p = multModP(X2N[k & 31], p);
+            }
+        }
+        return p;
+    }
+
+    static int combine(int crc1, int crc2, int shift) {
+        return multModP(shift, crc1) ^ crc2;
+    }
+
+    // a * b mod p (비트 반전 표현), a 는 0 이 아니어야 함
+    private static int multModP(int a, int b) {
+        int m = 1 << 31;
+        int p = 0;
+        while (true) {
+            if ((a & m) != 0) {
+                p ^= b;
+                if ((a & (m - 1)) == 0) {
+                    break;
+                }
+            }
+            m >>>= 1;
+            b = (b & 1) != 0 ? (b >>> 1) ^ POLY : b >>> 1;
+        }
+        return p;
+    }
+}
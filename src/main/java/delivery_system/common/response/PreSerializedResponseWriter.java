@@ -0,0 +1,145 @@
+package delivery_system.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * 미리 직렬화한 result(PreSerializedResult)로 BaseResponse 성공 응답을 서블릿 출력 스트림에 바로 기록
+ *
+ * - 요청마다 앞부분 {"timestamp":..,"status":"SUCCESS","message":.. 만 새로 만들고 result 바이트는 복사만 합니다.
+ *   (BaseResponse 를 ObjectMapper 로 직렬화한 결과와 같은 JSON)
+ * - Accept-Encoding 에 gzip 이 있으면 gzip 으로 응답합니다.
+ *   앞부분은 비압축(stored) deflate 블록으로, result 는 미리 압축한 deflate 블록을 이어붙이고
+ *   CRC-32 는 이어붙이기 연산으로 계산하므로 요청마다 압축하지 않습니다.
+ */
+@Component
+public class PreSerializedResponseWriter {
+
+    // ID1 ID2 CM(deflate) FLG MTIME(4) XFL OS(unknown)
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int STORED_BLOCK_HEADER_LENGTH = 5;
+    private static final int GZIP_TRAILER_LENGTH = 8;
+    private static final byte[] TIMESTAMP_FIELD = "{\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    // 메시지별 ,"status":"SUCCESS","message":"..." 바이트
+    private final Map<String, byte[]> successFields = new ConcurrentHashMap<>();
+
+    public PreSerializedResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeSuccess(HttpServletRequest request, HttpServletResponse response, String message,
+                             PreSerializedResult result) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        ServletOutputStream out = response.getOutputStream();
+        writeSuccess(out, message, result, gzip, response::setContentLength);
+    }
+
+    // 응답 본문 기록 (contentLength 는 본문을 쓰기 전에 한 번 호출)
+    public void writeSuccess(OutputStream out, String message, PreSerializedResult result, boolean gzip,
+                             IntConsumer contentLength) throws IOException {
+        byte[] timestamp = objectMapper.writeValueAsBytes(LocalDateTime.now());
+        byte[] statusFields = successFields.computeIfAbsent(message, this::successFields);
+        int prefixLength = TIMESTAMP_FIELD.length + timestamp.length + statusFields.length;
+
+        // gzip 이면 [gzip 헤더][stored 블록 헤더][앞부분], 아니면 [앞부분]
+        int offset = gzip ? GZIP_HEADER.length + STORED_BLOCK_HEADER_LENGTH : 0;
+        byte[] head = new byte[offset + prefixLength];
+        int position = offset;
+        System.arraycopy(TIMESTAMP_FIELD, 0, head, position, TIMESTAMP_FIELD.length);
+        position += TIMESTAMP_FIELD.length;
+        System.arraycopy(timestamp, 0, head, position, timestamp.length);
+        position += timestamp.length;
+        System.arraycopy(statusFields, 0, head, position, statusFields.length);
+
+        if (!gzip) {
+            contentLength.accept(head.length + result.json().length);
+            out.write(head);
+            out.write(result.json());
+            return;
+        }
+
+        System.arraycopy(GZIP_HEADER, 0, head, 0, GZIP_HEADER.length);
+        // BFINAL=0, BTYPE=00(stored), LEN, NLEN (little endian)
+        int storedAt = GZIP_HEADER.length;
+        head[storedAt] = 0;
+        head[storedAt + 1] = (byte) prefixLength;
+        head[storedAt + 2] = (byte) (prefixLength >>> 8);
+        head[storedAt + 3] = (byte) ~prefixLength;
+        head[storedAt + 4] = (byte) (~prefixLength >>> 8);
+
+        CRC32 prefixCrc = new CRC32();
+        prefixCrc.update(head, offset, prefixLength);
+        int crc = result.crcAfter((int) prefixCrc.getValue());
+        int size = prefixLength + result.json().length;
+        byte[] trailer = {
+                (byte) crc, (byte) (crc >>> 8), (byte) (crc >>> 16), (byte) (crc >>> 24),
+                (byte) size, (byte) (size >>> 8), (byte) (size >>> 16), (byte) (size >>> 24)};
+
+        byte[] deflated = result.deflated();
+        contentLength.accept(head.length + deflated.length + GZIP_TRAILER_LENGTH);
+        out.write(head);
+        out.write(deflated);
+        out.write(trailer);
+    }
+
+    private byte[] successFields(String message) {
+        try {
+            return (",\"status\":\"SUCCESS\",\"message\":" + objectMapper.writeValueAsString(message))
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 메시지 직렬화 실패", e);
+        }
+    }
+
+    // Accept-Encoding 에 q=0 이 아닌 gzip 이 있는지
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].strip().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].strip();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package delivery_system.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 미리 직렬화한 BaseResponse 의 result 부분
+ *
+ * BaseResponse JSON 은 {"timestamp":..,"status":..,"message":..,"result":{..}} 순서이므로
+ * 요청마다 바뀌는 앞부분(envelope)만 새로 쓰고 뒷부분 ,"result":{..}} 은 이 바이트를 그대로 씁니다.
+ * (PreSerializedResponseWriter 참고)
+ *
+ * gzip 용 raw deflate 바이트는 처음 gzip 요청 때 한 번만 만듭니다.
+ */
+public final class PreSerializedResult {
+
+    private static final byte[] RESULT_FIELD = ",\"result\":".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] json;
+    private final int crc;
+    private final int crcShift;
+    private volatile byte[] deflated;
+
+    private PreSerializedResult(byte[] json) {
+        this.json = json;
+        CRC32 crc32 = new CRC32();
+        crc32.update(json);
+        this.crc = (int) crc32.getValue();
+        this.crcShift = Crc32Combine.shift(json.length);
+    }
+
+    // ,"result":<result JSON>} 바이트 생성 (Spring MVC 와 같은 ObjectMapper 를 사용해야 응답이 같음)
+    public static PreSerializedResult of(ObjectMapper objectMapper, Object result) {
+        try {
+            byte[] resultJson = objectMapper.writeValueAsBytes(result);
+            byte[] json = new byte[RESULT_FIELD.length + resultJson.length + 1];
+            System.arraycopy(RESULT_FIELD, 0, json, 0, RESULT_FIELD.length);
+            System.arraycopy(resultJson, 0, json, RESULT_FIELD.length, resultJson.length);
+            json[json.length - 1] = '}';
+            return new PreSerializedResult(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    // 앞부분(prefix)의 CRC-32 에 이어붙인 전체 CRC-32 (gzip trailer 용, json 을 다시 읽지 않음)
+    int crcAfter(int prefixCrc) {
+        return Crc32Combine.combine(prefixCrc, crc, crcShift);
+    }
+
+    // json 을 raw deflate(헤더 없음, 마지막 블록으로 끝남)로 압축한 바이트, 동시에 만들어져도 결과가 같으므로 잠그지 않음
+    public byte[] deflated() {
+        byte[] bytes = deflated;
+        if (bytes == null) {
+            bytes = deflate(json);
+            deflated = bytes;
+        }
+        return bytes;
+    }
+
+    // 캐시 크기 계산용 (압축 전 + 압축 후 추정치)
+    public int weight() {
+        return json.length + json.length / 4;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
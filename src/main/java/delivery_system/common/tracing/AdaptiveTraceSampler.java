@@ -0,0 +1,123 @@
+package delivery_system.common.tracing;
+
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import delivery_system.common.RequestRule;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 초당 추적 수를 제한하는 헤드 샘플러
+ *
+ * - 규칙 키: "GET /api/v1/reviews/store/**" (메서드 생략 시 모든 메서드, RequestRule), 먼저 등록된 규칙부터 비교
+ * - 일치하는 규칙이 없거나 HTTP 요청이 아닌 경우(Kafka 컨슈머 등) default 규칙 적용
+ * - 요청 정보는 TraceSamplingFilter 가 스레드에 묶어두고, 새 트레이스를 시작할 때만 규칙을 비교합니다.
+ * - 규칙은 실행 중 교체할 수 있습니다. (actuator tracesampling 엔드포인트)
+ */
+public class AdaptiveTraceSampler extends Sampler {
+
+    public static final String DEFAULT_RULE = "default";
+
+    private static final ThreadLocal<HttpServletRequest> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private volatile Rules rules;
+
+    public AdaptiveTraceSampler(int defaultRate, Map<String, Integer> endpointRates) {
+        Map<String, Integer> rates = new LinkedHashMap<>(endpointRates);
+        rates.put(DEFAULT_RULE, defaultRate);
+        this.rules = Rules.of(rates);
+    }
+
+    static void bindRequest(HttpServletRequest request) {
+        CURRENT_REQUEST.set(request);
+    }
+
+    static void clearRequest() {
+        CURRENT_REQUEST.remove();
+    }
+
+    @Override
+    public boolean isSampled(long traceId) {
+        Rules current = rules;
+        HttpServletRequest request = CURRENT_REQUEST.get();
+        if (request != null) {
+            String method = request.getMethod();
+            String path = request.getRequestURI();
+            for (EndpointRule rule : current.endpoints()) {
+                if (rule.matches(method, path)) {
+                    return rule.sampler().isSampled(traceId);
+                }
+            }
+        }
+        return current.defaultSampler().isSampled(traceId);
+    }
+
+    // 현재 규칙별 초당 추적 수 (default 포함, 비교 순서대로)
+    public Map<String, Integer> rates() {
+        return rules.rates();
+    }
+
+    // 규칙 추가/변경 (rate = 0 이면 헤드 샘플링하지 않고 오류/지연 요청만 남김)
+    public synchronized void updateRate(String rule, int rate) {
+        Map<String, Integer> rates = new LinkedHashMap<>(rules.rates());
+        rates.put(rule.trim(), rate);
+        rules = Rules.of(rates);
+    }
+
+    // 규칙 삭제 (default 는 삭제 불가)
+    public synchronized boolean removeRule(String rule) {
+        String key = rule.trim();
+        if (DEFAULT_RULE.equals(key) || !rules.rates().containsKey(key)) {
+            return false;
+        }
+        Map<String, Integer> rates = new LinkedHashMap<>(rules.rates());
+        rates.remove(key);
+        rules = Rules.of(rates);
+        return true;
+    }
+
+    // 교체 단위가 되는 불변 규칙 묶음 (샘플러의 초당 카운터도 규칙을 바꿀 때 새로 시작)
+    private record Rules(List<EndpointRule> endpoints, Sampler defaultSampler, Map<String, Integer> rates) {
+
+        static Rules of(Map<String, Integer> rates) {
+            List<EndpointRule> endpoints = new ArrayList<>();
+            Sampler defaultSampler = Sampler.NEVER_SAMPLE;
+            for (Map.Entry<String, Integer> entry : rates.entrySet()) {
+                Sampler sampler = rateLimited(entry.getKey(), entry.getValue());
+                if (DEFAULT_RULE.equals(entry.getKey())) {
+                    defaultSampler = sampler;
+                } else {
+                    endpoints.add(EndpointRule.parse(entry.getKey(), sampler));
+                }
+            }
+            // default 는 항상 마지막에 비교하므로 조회 결과도 마지막에 둠
+            Map<String, Integer> ordered = new LinkedHashMap<>(rates);
+            Integer defaultRate = ordered.remove(DEFAULT_RULE);
+            ordered.put(DEFAULT_RULE, defaultRate == null ? 0 : defaultRate);
+            return new Rules(List.copyOf(endpoints), defaultSampler, Collections.unmodifiableMap(ordered));
+        }
+
+        private static Sampler rateLimited(String rule, Integer rate) {
+            if (rate == null || rate < 0) {
+                throw new IllegalArgumentException("초당 추적 수는 0 이상이어야 합니다 - rule: " + rule + ", rate: " + rate);
+            }
+            return RateLimitingSampler.create(rate);
+        }
+    }
+
+    private record EndpointRule(RequestRule requestRule, Sampler sampler) {
+
+        static EndpointRule parse(String rule, Sampler sampler) {
+            return new EndpointRule(RequestRule.parse(rule, "샘플링 규칙"), sampler);
+        }
+
+        boolean matches(String requestMethod, String path) {
+            return requestRule.matches(requestMethod, path);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package delivery_system.common.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로세스 내 tail 샘플링 (헤드 샘플링에서 빠진 트레이스 중 오류/지연 요청을 보존)
+ *
+ * - 헤드 샘플링된 스팬은 그대로 다음 핸들러(Zipkin 전송)로 넘깁니다.
+ * - 샘플링되지 않은 스팬은 로컬 루트 스팬이 끝날 때까지 로컬 루트 단위로 모아둡니다.
+ *   (요청마다 거치는 경로라 Caffeine 대신 ConcurrentHashMap 사용 - 가득 차면 새 트레이스는 모으지 않고,
+ *    루트가 먼저 끝나 남은 스팬은 주기적으로 정리)
+ * - 로컬 루트가 오류로 끝났거나(outcome=SERVER_ERROR 포함) slow-threshold 이상 걸렸으면 모아둔 스팬과 함께 전송하고,
+ *   아니면 버립니다.
+ * - 다른 SpanHandler 보다 먼저 실행되어야 하며, 전송 핸들러는 샘플링 여부와 관계없이 받은 스팬을 모두 보내야 합니다.
+ * - 지표: review.tracing.tail.kept (reason=error|slow), review.tracing.tail.dropped
+ */
+public class TailSamplingSpanHandler extends SpanHandler implements Ordered {
+
+    private final SpanHandler reporter;
+    private final int maxSpansPerTrace;
+    private static final long PENDING_TTL_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final int maxPendingTraces;
+    private final ConcurrentHashMap<Long, PendingTrace> pendingTraces = new ConcurrentHashMap<>();
+    private final AtomicInteger rootsSinceSweep = new AtomicInteger();
+    private final Counter keptErrorCounter;
+    private final Counter keptSlowCounter;
+    private final Counter droppedCounter;
+
+    private volatile long slowThresholdMicros;
+
+    public TailSamplingSpanHandler(SpanHandler reporter,
+                                   Duration slowThreshold,
+                                   int maxPendingTraces,
+                                   int maxSpansPerTrace,
+                                   MeterRegistry meterRegistry) {
+        this.reporter = reporter;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.maxPendingTraces = maxPendingTraces;
+        this.keptErrorCounter = meterRegistry.counter("review.tracing.tail.kept", "reason", "error");
+        this.keptSlowCounter = meterRegistry.counter("review.tracing.tail.kept", "reason", "slow");
+        this.droppedCounter = meterRegistry.counter("review.tracing.tail.dropped");
+        this.slowThresholdMicros = slowThreshold.toNanos() / 1000;
+    }
+
+    public Duration getSlowThreshold() {
+        return Duration.ofNanos(slowThresholdMicros * 1000);
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThresholdMicros = slowThreshold.toNanos() / 1000;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (Boolean.TRUE.equals(context.sampled())) {
+            return true;
+        }
+        if (cause != Cause.FINISHED) {
+            if (context.isLocalRoot()) {
+                pendingTraces.remove(context.localRootId());
+            }
+            return false;
+        }
+        if (!context.isLocalRoot()) {
+            PendingTrace pending = pendingTraces.get(context.localRootId());
+            if (pending == null && pendingTraces.size() < maxPendingTraces) {
+                pending = pendingTraces.computeIfAbsent(context.localRootId(), key -> new PendingTrace(System.nanoTime()));
+            }
+            if (pending != null) {
+                pending.add(context, span, maxSpansPerTrace);
+            }
+            return false;
+        }
+
+        PendingTrace pending = pendingTraces.remove(context.localRootId());
+        if (rootsSinceSweep.incrementAndGet() >= SWEEP_INTERVAL) {
+            rootsSinceSweep.set(0);
+            sweepExpired();
+        }
+        Counter keptCounter = isError(span) ? keptErrorCounter : isSlow(span) ? keptSlowCounter : null;
+        if (keptCounter == null) {
+            droppedCounter.increment();
+            return false;
+        }
+        keptCounter.increment();
+        if (pending != null) {
+            pending.forEach(reporter);
+        }
+        return true;
+    }
+
+    // 루트가 먼저 끝난 뒤에 끝난 스팬(비동기 작업 등)은 루트가 다시 오지 않으므로 TTL 로 정리
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        pendingTraces.values().removeIf(pending -> now - pending.createdAt() > PENDING_TTL_NANOS);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private boolean isError(MutableSpan span) {
+        return span.error() != null
+                || span.tag("error") != null
+                || "SERVER_ERROR".equals(span.tag("outcome"));
+    }
+
+    private boolean isSlow(MutableSpan span) {
+        long start = span.startTimestamp();
+        long finish = span.finishTimestamp();
+        return start != 0 && finish != 0 && finish - start >= slowThresholdMicros;
+    }
+
+    private static final class PendingTrace {
+
+        private final long createdAt;
+        private final List<TraceContext> contexts = new ArrayList<>();
+        private final List<MutableSpan> spans = new ArrayList<>();
+
+        private PendingTrace(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        long createdAt() {
+            return createdAt;
+        }
+
+        synchronized void add(TraceContext context, MutableSpan span, int maxSpans) {
+            if (spans.size() < maxSpans) {
+                contexts.add(context);
+                spans.add(span);
+            }
+        }
+
+        synchronized void forEach(SpanHandler reporter) {
+            for (int i = 0; i < spans.size(); i++) {
+                reporter.end(contexts.get(i), spans.get(i), Cause.FINISHED);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package delivery_system.common.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 추적 샘플링 설정 조회/변경 (재시작 없이 적용, 인스턴스 단위)
+ *
+ * GET    /actuator/tracesampling
+ * POST   /actuator/tracesampling  {"rule": "GET /api/v1/reviews/store/**", "rate": 1}
+ *                                  {"slowThresholdMs": 300}
+ * DELETE /actuator/tracesampling?rule=GET /api/v1/reviews/store/**
+ */
+@Endpoint(id = "tracesampling")
+public class TraceSamplingEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceSamplingEndpoint.class);
+
+    private final AdaptiveTraceSampler sampler;
+    private final TailSamplingSpanHandler tailSamplingSpanHandler;
+
+    public TraceSamplingEndpoint(AdaptiveTraceSampler sampler, TailSamplingSpanHandler tailSamplingSpanHandler) {
+        this.sampler = sampler;
+        this.tailSamplingSpanHandler = tailSamplingSpanHandler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rates", sampler.rates());
+        settings.put("slowThresholdMs", tailSamplingSpanHandler.getSlowThreshold().toMillis());
+        return settings;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable String rule, @Nullable Integer rate, @Nullable Long slowThresholdMs) {
+        if ((rule == null) != (rate == null)) {
+            throw new InvalidEndpointRequestException("rule 과 rate 는 함께 지정해야 합니다.", "rule and rate must be given together");
+        }
+        if (rule != null) {
+            try {
+                sampler.updateRate(rule, rate);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+            }
+            logger.info("추적 샘플링 규칙 변경 - rule: {}, rate: {}/s", rule, rate);
+        }
+        if (slowThresholdMs != null) {
+            if (slowThresholdMs < 0) {
+                throw new InvalidEndpointRequestException("slowThresholdMs 는 0 이상이어야 합니다.", "slowThresholdMs must not be negative");
+            }
+            tailSamplingSpanHandler.setSlowThreshold(Duration.ofMillis(slowThresholdMs));
+            logger.info("추적 tail 샘플링 지연 기준 변경 - slowThresholdMs: {}", slowThresholdMs);
+        }
+        return settings();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> remove(String rule) {
+        if (!sampler.removeRule(rule)) {
+            throw new InvalidEndpointRequestException("삭제할 수 없는 규칙입니다: " + rule, "rule not removable");
+        }
+        logger.info("추적 샘플링 규칙 삭제 - rule: {}", rule);
+        return settings();
+    }
+}
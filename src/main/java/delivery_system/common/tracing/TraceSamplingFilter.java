@@ -0,0 +1,28 @@
+package delivery_system.common.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * AdaptiveTraceSampler 가 엔드포인트 규칙을 비교할 수 있도록 요청을 스레드에 묶어두는 필터
+ *
+ * 서버 관측 필터(ServerHttpObservationFilter)가 트레이스를 시작하기 전에 실행되어야 합니다.
+ */
+public class TraceSamplingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveTraceSampler.bindRequest(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AdaptiveTraceSampler.clearRequest();
+        }
+    }
+}
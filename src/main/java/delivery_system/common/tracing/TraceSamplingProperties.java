@@ -0,0 +1,31 @@
+package delivery_system.common.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 추적 샘플링 초기 설정 (review.tracing.sampling)
+ *
+ * 실행 중 변경은 actuator tracesampling 엔드포인트로 합니다.
+ */
+@ConfigurationProperties("review.tracing.sampling")
+public record TraceSamplingProperties(
+        // 규칙에 일치하지 않는 트레이스의 초당 최대 수
+        @DefaultValue("10") int defaultRate,
+        // "메서드 경로패턴" -> 초당 최대 수 (작성 순서대로 비교)
+        Map<String, Integer> endpointRates,
+        // 이 시간 이상 걸린 요청은 헤드 샘플링 여부와 관계없이 전송
+        @DefaultValue("500ms") Duration slowThreshold,
+        // tail 판정을 기다리며 스팬을 모아둘 최대 트레이스 수 / 트레이스당 최대 스팬 수
+        @DefaultValue("10000") int maxPendingTraces,
+        @DefaultValue("200") int maxSpansPerTrace
+) {
+
+    public TraceSamplingProperties {
+        endpointRates = endpointRates == null ? Map.of() : new LinkedHashMap<>(endpointRates);
+    }
+}
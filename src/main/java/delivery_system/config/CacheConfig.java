@@ -0,0 +1,21 @@
+package delivery_system.config;
+
+import delivery_system.review.application.cache.NoOpStoreReviewCacheTier;
+import delivery_system.review.application.cache.StoreReviewCacheTier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정
+ */
+@Configuration
+public class CacheConfig {
+
+    // 공유(2차) 캐시 구현 빈이 없으면 로컬 캐시만 사용
+    @Bean
+    @ConditionalOnMissingBean(StoreReviewCacheTier.class)
+    public StoreReviewCacheTier storeReviewCacheTier() {
+        return new NoOpStoreReviewCacheTier();
+    }
+}
@@ -0,0 +1,60 @@
+package delivery_system.config;
+
+import delivery_system.review.application.client.OrderVerificationProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 서비스 호출 보호 설정
+ *
+ * - circuit breaker: 실패/지연 호출 비율이 높으면 일정 시간 호출하지 않고 바로 실패 (주문 서비스 장애가 리뷰 요청 지연으로 번지지 않도록)
+ * - bulkhead: 주문 서비스를 동시에 호출하는 요청 스레드 수 제한 (느린 주문 서비스가 요청 스레드를 모두 잡지 않도록)
+ * - 지표: resilience4j.circuitbreaker.* / resilience4j.bulkhead.* {name="orderService"}
+ */
+@Configuration
+@EnableConfigurationProperties(OrderVerificationProperties.class)
+public class OrderVerificationConfig {
+
+    public static final String ORDER_SERVICE = "orderService";
+
+    @Bean
+    public CircuitBreaker orderServiceCircuitBreaker(OrderVerificationProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(Math.max(1, properties.slidingWindowSize() / 2))
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slowCallRateThreshold(properties.failureRateThreshold())
+                .slowCallDurationThreshold(properties.slowCallThreshold())
+                .waitDurationInOpenState(properties.openStateWait())
+                .permittedNumberOfCallsInHalfOpenState(3)
+                // bulkhead 거절은 주문 서비스를 호출하지 않은 것이므로 실패로 세지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(ORDER_SERVICE);
+    }
+
+    @Bean
+    public Bulkhead orderServiceBulkhead(OrderVerificationProperties properties, MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.maxConcurrentCalls())
+                .maxWaitDuration(properties.maxWait())
+                .build();
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(ORDER_SERVICE);
+    }
+}
@@ -0,0 +1,43 @@
+package delivery_system.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import delivery_system.common.ratelimit.ClientRateLimiter;
+import delivery_system.common.ratelimit.RateLimitFilter;
+import delivery_system.common.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 클라이언트별 요청 수 제한 설정
+ *
+ * review.rate-limit.enabled=false 이면 필터를 등록하지 않습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "review.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public ClientRateLimiter clientRateLimiter(RateLimitProperties properties) {
+        return new ClientRateLimiter(properties.routes(), properties.apiKeys(), properties.apiKeyMultiplier(),
+                properties.maxClients());
+    }
+
+    // 추적/관측 필터(HIGHEST_PRECEDENCE, +1) 다음, Spring Security 필터 체인(-100)보다 먼저 실행
+    // (차단된 요청도 http.server.requests 지표와 트레이스에 429/503 으로 남음)
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(ClientRateLimiter clientRateLimiter,
+                                                                   RateLimitProperties properties,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(clientRateLimiter, properties.apiKeyHeader(), objectMapper, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
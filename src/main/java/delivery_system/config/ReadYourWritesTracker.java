@@ -0,0 +1,202 @@
+package delivery_system.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 직후 조회의 read-your-writes 보장 (review.datasource.replica.sticky-window)
+ *
+ * 쓰기 트랜잭션이 커밋되면 sticky-window 동안 다음 조회를 primary(최신 데이터)로 보냅니다.
+ * - 사용자: 인증 principal 이름 + 응답 쿠키(review-rw, 만료 시각)
+ *   가게 리뷰 조회(/store/**)는 JWT 를 검사하지 않으므로 쿠키로 같은 클라이언트를 알아보고, 다른 인스턴스에서도 적용됩니다.
+ * - 가게: 이 인스턴스에서 리뷰/평점 집계를 바꾼 가게의 조회 (누가 조회하든, 캐시 적재 포함)
+ * 인증 정보와 요청이 없는 쓰기(Kafka 컨슈머, 스케줄러)는 가게만 기록합니다.
+ *
+ * 읽기 복제본이 없어도 가게 리뷰 캐시가 쓰기 직후 오래된 값을 내주지 않도록 항상 등록됩니다.
+ * 쿠키는 조회를 primary 로 보낼 뿐 권한과 무관하며, 만료 시각이 sticky-window 를 넘으면 무시합니다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    public static final String COOKIE_NAME = "review-rw";
+
+    private final Duration stickyWindow;
+    private final Cache<String, Boolean> recentWriters;
+    private final Cache<UUID, Boolean> recentStores;
+    // onPrimary 로 감싼 조회 (스레드 단위)
+    private final ThreadLocal<Boolean> forcePrimary = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(@Value("${review.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickyWindow)
+                .build();
+        this.recentStores = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    // 현재 조회를 primary 로 보내야 하는지 (onPrimary 안, 또는 현재 사용자/클라이언트가 sticky-window 안에 쓰기를 커밋함)
+    public boolean isCurrentRequestSticky() {
+        if (forcePrimary.get() != null) {
+            return true;
+        }
+        String userId = currentUserId();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return true;
+        }
+        HttpServletRequest request = currentRequest();
+        return request != null && hasValidCookie(request);
+    }
+
+    // 이 인스턴스에서 sticky-window 안에 가게 리뷰를 바꾼 쓰기가 커밋되었는지
+    public boolean isStoreSticky(UUID storeId) {
+        return recentStores.getIfPresent(storeId) != null;
+    }
+
+    // 가게 리뷰 쓰기 기록 - 쓰기 트랜잭션 안에서 호출하면 커밋 후 가게 + 현재 사용자를 기록
+    public void recordStoreWrite(UUID storeId) {
+        WriteSynchronization synchronization = currentWriteSynchronization();
+        if (synchronization != null) {
+            synchronization.storeIds.add(storeId);
+        }
+    }
+
+    // supplier 안에서 가져가는 조회 커넥션은 복제본 대신 primary 사용
+    public <T> T onPrimary(Supplier<T> supplier) {
+        if (forcePrimary.get() != null) {
+            return supplier.get();
+        }
+        forcePrimary.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            forcePrimary.remove();
+        }
+    }
+
+    // 쓰기 트랜잭션에서 커넥션을 가져가면 커밋 후 현재 사용자를 기록하는 DataSource (읽기 복제본 라우팅 시)
+    public DataSource trackWrites(DataSource primary) {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                currentWriteSynchronization();
+                return connection;
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                Connection connection = super.getConnection(username, password);
+                currentWriteSynchronization();
+                return connection;
+            }
+        };
+    }
+
+    // 현재 쓰기 트랜잭션의 커밋 후 기록 작업 (트랜잭션당 하나만 등록, 쓰기 트랜잭션이 아니면 null)
+    private WriteSynchronization currentWriteSynchronization() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof WriteSynchronization registered) {
+                return registered;
+            }
+        }
+        WriteSynchronization synchronization = new WriteSynchronization(currentUserId(), currentResponse());
+        TransactionSynchronizationManager.registerSynchronization(synchronization);
+        return synchronization;
+    }
+
+    private boolean hasValidCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    long remainingMillis = Long.parseLong(cookie.getValue()) - System.currentTimeMillis();
+                    return remainingMillis > 0 && remainingMillis <= stickyWindow.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static HttpServletResponse currentResponse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getResponse() : null;
+    }
+
+    private final class WriteSynchronization implements TransactionSynchronization {
+
+        private final String userId;
+        private final HttpServletResponse response;
+        private final Set<UUID> storeIds = new HashSet<>();
+
+        private WriteSynchronization(String userId, HttpServletResponse response) {
+            this.userId = userId;
+            this.response = response;
+        }
+
+        @Override
+        public void afterCommit() {
+            storeIds.forEach(storeId -> recentStores.put(storeId, Boolean.TRUE));
+            if (userId != null) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+            // 컨트롤러가 응답을 쓰기 전(서비스 호출 중)에 커밋되므로 헤더를 추가할 수 있음
+            if (response != null && !response.isCommitted()) {
+                ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME,
+                                String.valueOf(System.currentTimeMillis() + stickyWindow.toMillis()))
+                        .path("/")
+                        .maxAge(stickyWindow)
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build();
+                response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            }
+        }
+    }
+}
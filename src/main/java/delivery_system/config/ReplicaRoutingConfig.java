@@ -0,0 +1,92 @@
+package delivery_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 (review.datasource.replica.urls 가 있을 때만 적용)
+ *
+ * - 쓰기 / 트랜잭션 밖의 SQL (Flyway, 아웃박스 릴레이 등): primary
+ * - @Transactional(readOnly = true) 조회: ReplicaRoutingDataSource (정상 복제본, 없으면 primary)
+ * LazyConnectionDataSourceProxy 가 트랜잭션의 read-only 설정이 끝난 뒤 첫 SQL 시점에 커넥션을 가져오므로
+ * 서비스 코드는 readOnly 속성만으로 라우팅됩니다.
+ *
+ * Spring Boot 기본 DataSource 대신 primary 풀을 직접 만들며, 설정(spring.datasource.*)은 동일하게 적용됩니다.
+ */
+@Configuration
+@ConditionalOnExpression("'${review.datasource.replica.urls:}' != ''")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry,
+                                                             @Value("${review.datasource.replica.urls}") String urls,
+                                                             @Value("${review.datasource.replica.max-lag:2s}") Duration maxLag,
+                                                             @Value("${review.datasource.replica.check-interval:1s}") Duration checkInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        String[] replicaUrls = StringUtils.tokenizeToStringArray(urls, ",");
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String name = "replica-" + i;
+            replicas.put(name, replicaDataSource(name, replicaUrls[i], properties, environment, meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker,
+                maxLag, checkInterval, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                readYourWritesTracker.trackWrites(primaryDataSource));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    // 복제본 풀: primary 와 같은 Hikari 설정에 URL / 계정만 교체 (계정 미지정 시 primary 계정)
+    private DataSource replicaDataSource(String name, String url, DataSourceProperties properties,
+                                         Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        replica.setJdbcUrl(url);
+        replica.setUsername(environment.getProperty("review.datasource.replica.username", properties.determineUsername()));
+        replica.setPassword(environment.getProperty("review.datasource.replica.password", properties.determinePassword()));
+        replica.setPoolName("review-" + name);
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return VirtualThreadConfig.limitConcurrency(replica.getPoolName(), replica, environment);
+        }
+        return replica;
+    }
+}
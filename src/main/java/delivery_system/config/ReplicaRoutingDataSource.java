@@ -0,0 +1,168 @@
+package delivery_system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 조회 트랜잭션(readOnly = true)용 DataSource - 정상 복제본 중 하나, 조건에 따라 primary 로 보냄
+ *
+ * - 복제본은 check-interval 마다 복제 지연을 확인하고, 지연이 max-lag 를 넘거나 확인에 실패하면 제외합니다.
+ *   (복구 모드가 아닌 PostgreSQL 은 지연 0 으로 취급 - 로컬 대역 DB 로 테스트 가능)
+ *   응답 없는 복제본이 커넥션 대기로 다른 @Scheduled 작업을 막지 않도록 전용 스레드에서 확인합니다.
+ * - 정상 복제본끼리는 순서대로 돌아가며 사용하고, 정상 복제본이 없으면 primary 를 사용합니다.
+ * - 최근에 쓰기를 커밋한 사용자/클라이언트의 조회와 onPrimary 로 감싼 조회는 primary 로 보냅니다. (ReadYourWritesTracker)
+ * - 지표: review.datasource.read.routes (target=replica|primary, reason=healthy|sticky|no_healthy_replica),
+ *         review.datasource.replica.lag (초, 확인 실패 시 -1)
+ */
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+
+    // 복구 모드가 아니거나 받은 WAL 을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+
+    private volatile List<Replica> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicaDataSources,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    Duration maxLag,
+                                    Duration checkInterval,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicaDataSources.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagMillis = maxLag.toMillis();
+        this.replicaRoutes = meterRegistry.counter("review.datasource.read.routes", "target", "replica", "reason", "healthy");
+        this.stickyRoutes = meterRegistry.counter("review.datasource.read.routes", "target", "primary", "reason", "sticky");
+        this.fallbackRoutes = meterRegistry.counter("review.datasource.read.routes", "target", "primary", "reason", "no_healthy_replica");
+        replicas.forEach(replica -> Gauge.builder("review.datasource.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                .tag("replica", replica.name)
+                .baseUnit("seconds")
+                .register(meterRegistry));
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.checkIntervalMillis = checkInterval.toMillis();
+        this.checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 빈 초기화 시 Spring 이 호출 - 라우팅 대상 확정 후 복제 지연 확인 시작 (첫 확인이 끝나기 전까지는 primary 사용)
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checker.scheduleWithFixedDelay(this::checkReplicas, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (readYourWritesTracker.isCurrentRequestSticky()) {
+            stickyRoutes.increment();
+            return PRIMARY;
+        }
+        List<Replica> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            fallbackRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).name;
+    }
+
+    // 확인 중단 후 복제본 풀 종료 (빈 소멸 시 호출)
+    public void close() {
+        checker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("읽기 복제본 풀 종료 실패 - replica: {}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    // 복제 지연 확인 후 정상 복제본 목록 교체
+    void checkReplicas() {
+        List<Replica> healthy = replicas.stream()
+                .filter(this::checkReplica)
+                .toList();
+        if (!healthy.equals(healthyReplicas)) {
+            logger.info("정상 읽기 복제본 변경 - {}/{}: {}", healthy.size(), replicas.size(),
+                    healthy.stream().map(replica -> replica.name).toList());
+        }
+        healthyReplicas = healthy;
+    }
+
+    private boolean checkReplica(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(Math.max(1, (int) Duration.ofMillis(maxLagMillis).toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                replica.lagMillis = (long) (resultSet.getDouble(1) * 1000);
+            }
+        } catch (Exception e) {
+            replica.lagMillis = -1000;
+            logger.debug("읽기 복제본 확인 실패 - replica: {}, error: {}", replica.name, e.getMessage());
+            return false;
+        }
+        return replica.lagMillis <= maxLagMillis;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long lagMillis = -1000;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package delivery_system.config;
 
 import delivery_system.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,13 +18,24 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *
  * 공개 API (인증 불필요):
  * - GET /api/v1/reviews/store/{storeId} - 가게의 리뷰 목록 조회
+ * - GET /api/v1/reviews/store/{storeId}/ratings - 가게의 별점 분포 조회
+ * - GET /api/v1/reviews/store/{storeId}/search - 가게의 리뷰 내용 검색
  * - GET /api/v1/reviews/order/{orderId} - 주문의 리뷰 조회
  *
  * 인증 필요 API:
  * - POST /api/v1/reviews/{storeId}/orders/{orderId} - 리뷰 작성
  * - GET /api/v1/reviews - 내 리뷰 목록 조회
+ * - GET /api/v1/reviews/search - 전체 리뷰 내용 검색 (MANAGER/MASTER)
  * - PUT /api/v1/reviews/{reviewId} - 리뷰 수정 (작성자만)
  * - DELETE /api/v1/reviews/{reviewId} - 리뷰 삭제 (CUSTOMER/MANAGER/MASTER)
+ * - /actuator/info, metrics, prometheus - 지표 조회
+ * - 그 밖의 /actuator/** (tracesampling, loggers, env, beans, threaddump 등) - MANAGER/MASTER
+ *   (서비스 전체의 샘플링 비율, 로그 레벨을 런타임에 바꿀 수 있으므로 관리자만 허용)
+ *
+ * 스트리밍 응답(리뷰 내보내기)이 끝난 뒤의 ASYNC 디스패치는 처음 요청에서 이미 권한을 확인했으므로 허용합니다.
+ * (JWT 필터는 ASYNC 디스패치에서 다시 실행되지 않아, 막으면 이미 보낸 응답이 비정상 종료됨)
+ *
+ * 공개 API 의 클라이언트별 요청 수 제한은 이 필터 체인보다 먼저 실행되는 RateLimitFilter 가 합니다. (RateLimitConfig)
  */
 @Configuration
 @EnableWebSecurity
@@ -40,6 +52,8 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 🔁 스트리밍 응답 완료 후 ASYNC 디스패치 (최초 REQUEST 디스패치에서 권한 확인됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 🟢 공개 API (인증 불필요)
                         .requestMatchers(
                                 "/actuator/health",
@@ -49,6 +63,15 @@ public class SecurityConfig {
                                 "/api/v1/reviews/store/**",
                                 "/api/v1/reviews/order/**"
                         ).permitAll()
+                        // 📈 조회용 actuator 는 인증만 필요 (지표 수집)
+                        .requestMatchers(
+                                "/actuator/info",
+                                "/actuator/metrics",
+                                "/actuator/metrics/**",
+                                "/actuator/prometheus"
+                        ).authenticated()
+                        // 🛠 나머지 actuator (tracesampling, loggers, env 등 설정 변경/내부 정보) 는 관리자만
+                        .requestMatchers("/actuator/**").hasAnyRole("MANAGER", "MASTER")
                         // 🔐 나머지 API는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,69 @@
+package delivery_system.config;
+
+import brave.TracingCustomizer;
+import brave.handler.MutableSpan;
+import delivery_system.common.tracing.AdaptiveTraceSampler;
+import delivery_system.common.tracing.TailSamplingSpanHandler;
+import delivery_system.common.tracing.TraceSamplingEndpoint;
+import delivery_system.common.tracing.TraceSamplingFilter;
+import delivery_system.common.tracing.TraceSamplingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import zipkin2.reporter.BytesEncoder;
+import zipkin2.reporter.BytesMessageSender;
+import zipkin2.reporter.brave.AsyncZipkinSpanHandler;
+
+/**
+ * 적응형 추적 샘플링 설정 (management.tracing.sampling.probability 대신 사용)
+ *
+ * - 헤드: AdaptiveTraceSampler 가 엔드포인트별 초당 추적 수로 결정 (Spring Boot 기본 Sampler 대체)
+ * - tail: 모든 스팬을 로컬에서 기록(alwaysSampleLocal)한 뒤 TailSamplingSpanHandler 가 오류/지연 요청만 추가로 전송
+ * - Zipkin 전송 핸들러는 tail 에서 살린 스팬도 보낼 수 있도록 샘플링 여부와 관계없이 전송 (Spring Boot 기본 핸들러 대체)
+ */
+@Configuration
+@EnableConfigurationProperties(TraceSamplingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public AdaptiveTraceSampler adaptiveTraceSampler(TraceSamplingProperties properties) {
+        return new AdaptiveTraceSampler(properties.defaultRate(), properties.endpointRates());
+    }
+
+    @Bean
+    public TracingCustomizer alwaysSampleLocalCustomizer() {
+        return builder -> builder.alwaysSampleLocal();
+    }
+
+    @Bean
+    public AsyncZipkinSpanHandler asyncZipkinSpanHandler(BytesMessageSender sender, BytesEncoder<MutableSpan> encoder) {
+        return AsyncZipkinSpanHandler.newBuilder(sender)
+                .alwaysReportSpans(true)
+                .build(encoder);
+    }
+
+    @Bean
+    public TailSamplingSpanHandler tailSamplingSpanHandler(AsyncZipkinSpanHandler asyncZipkinSpanHandler,
+                                                           TraceSamplingProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        return new TailSamplingSpanHandler(asyncZipkinSpanHandler, properties.slowThreshold(),
+                properties.maxPendingTraces(), properties.maxSpansPerTrace(), meterRegistry);
+    }
+
+    // 서버 관측 필터(HIGHEST_PRECEDENCE + 1)보다 먼저 요청을 묶어둠
+    @Bean
+    public FilterRegistrationBean<TraceSamplingFilter> traceSamplingFilter() {
+        FilterRegistrationBean<TraceSamplingFilter> registration = new FilterRegistrationBean<>(new TraceSamplingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public TraceSamplingEndpoint traceSamplingEndpoint(AdaptiveTraceSampler sampler,
+                                                       TailSamplingSpanHandler tailSamplingSpanHandler) {
+        return new TraceSamplingEndpoint(sampler, tailSamplingSpanHandler);
+    }
+}
@@ -0,0 +1,80 @@
+package delivery_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 설정 (spring.threads.virtual.enabled=true 일 때만 적용)
+ *
+ * Tomcat 요청 처리 / @Async / @Scheduled 는 Spring Boot 가 가상 스레드로 전환하고,
+ * Kafka 리스너 컨테이너는 KafkaProcessor 에서 전환합니다.
+ * 여기서는 가상 스레드가 커넥션 풀로 몰리지 않도록 DataSource 동시 사용 수를 제한합니다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // review.datasource.max-concurrency 미지정 시 Hikari 최대 풀 크기, acquire-timeout 미지정 시 Hikari connectionTimeout
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                return limitConcurrency(beanName, hikari, environment);
+            }
+        };
+    }
+
+    // 빈으로 등록되지 않는 풀(읽기 복제본 등)도 같은 기준으로 제한
+    static ConcurrencyLimitedDataSource limitConcurrency(String name, HikariDataSource hikari, Environment environment) {
+        int maxConcurrency = environment.getProperty("review.datasource.max-concurrency",
+                Integer.class, hikari.getMaximumPoolSize());
+        Duration acquireTimeout = environment.getProperty("review.datasource.acquire-timeout",
+                Duration.class, Duration.ofMillis(hikari.getConnectionTimeout()));
+        logger.info("DataSource 동시 사용 제한 - dataSource: {}, maxConcurrency: {}, acquireTimeout: {}",
+                name, maxConcurrency, acquireTimeout);
+        return new ConcurrencyLimitedDataSource(hikari, maxConcurrency, acquireTimeout);
+    }
+
+    // 지표: review.datasource.waiting (커넥션 허용량을 기다리는 스레드 수)
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            // 읽기 복제본 라우팅 사용 시 primary 는 라우팅 프록시 안쪽에 있음
+            ConcurrencyLimitedDataSource limited = unwrapLimited(dataSource);
+            if (limited != null) {
+                Gauge.builder("review.datasource.waiting", limited, ConcurrencyLimitedDataSource::getWaitingThreads)
+                        .tag("maxConcurrency", String.valueOf(limited.getMaxConcurrency()))
+                        .register(registry);
+            }
+        };
+    }
+
+    private static ConcurrencyLimitedDataSource unwrapLimited(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitedDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
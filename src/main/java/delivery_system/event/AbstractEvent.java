@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.function.StreamBridge;
@@ -15,6 +17,8 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @Component
 public abstract class AbstractEvent {
 
+    private static final Logger logger = LoggerFactory.getLogger(AbstractEvent.class);
+
     // Getter/Setter
     @Getter
     @Setter
@@ -46,7 +50,7 @@ public abstract class AbstractEvent {
 
     public void publish(String topic, Object payload) {
         streamBridge.send(topic, payload);
-        System.out.println("📤 Published to topic: " + topic + " payload: " + payload);
+        logger.debug("📤 Published to topic: {} payload: {}", topic, payload);
     }
 
     // 트랜잭션 커밋 이후 발행
@@ -0,0 +1,22 @@
+package delivery_system.event.inbox;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 정책 이벤트 기록
+ * processed_at 은 DB 시계(clock_timestamp())로 기록되며 보관 기간 정리에 사용됩니다.
+ */
+@Entity
+@Table(name = "p_review_processed_event")
+@Data
+public class ProcessedEventEntityV1 {
+    @Id
+    @Column(name = "event_key")
+    private String eventKey;
+
+    @Column(name = "processed_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime processedAt;
+}
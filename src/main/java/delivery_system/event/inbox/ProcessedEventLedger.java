@@ -0,0 +1,122 @@
+package delivery_system.event.inbox;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정책 이벤트 처리 원장 (at-least-once 재전달 중복 적용 방지)
+ *
+ * - 앞단: 이 인스턴스가 최근에 처리한 이벤트 키를 담는 크기 제한 LRU (Caffeine)
+ *   리밸런스 후 같은 인스턴스로 다시 오는 레코드는 DB 조회 없이 걸러냅니다.
+ * - 원장: p_review_processed_event
+ *   리뷰 삭제 전에 이미 기록된 키를 한 번 조회해서 빼고(unrecorded), 삭제가 끝나면 기록합니다. (record)
+ *   리뷰 삭제는 청크 단위 트랜잭션이라 기록과 한 트랜잭션으로 묶을 수 없습니다.
+ *   삭제 전에 먼저 기록하면 그 사이 실패한 이벤트가 처리된 것으로 남으므로 배치마다 조회 1회 + 기록 1회를 씁니다.
+ *   기록 전에 실패해서 재전달되어도 soft delete 가 이미 삭제된 리뷰를 건너뛰므로 결과가 같습니다.
+ * - 보관 기간(retention)이 지난 기록은 cleanup-cron 주기로 삭제합니다.
+ * - 지표: review.policy.duplicates (source=memory|ledger)
+ */
+@Component
+public class ProcessedEventLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessedEventLedger.class);
+    private static final int CLEANUP_CHUNK_SIZE = 1000;
+
+    private final ProcessedEventRepositoryV1 processedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Boolean> recentlyProcessed;
+    private final Counter memoryDuplicateCounter;
+    private final Counter ledgerDuplicateCounter;
+
+    @Value("${review.policy.dedup.retention:7d}")
+    private Duration retention;
+
+    public ProcessedEventLedger(ProcessedEventRepositoryV1 processedEventRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${review.policy.dedup.memory-size:100000}") long memorySize) {
+        this.processedEventRepository = processedEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(memorySize)
+                .build();
+        this.memoryDuplicateCounter = meterRegistry.counter("review.policy.duplicates", "source", "memory");
+        this.ledgerDuplicateCounter = meterRegistry.counter("review.policy.duplicates", "source", "ledger");
+    }
+
+    // 이 인스턴스가 이미 처리한 것으로 알고 있는 키인지 (DB 를 조회하지 않음)
+    public boolean isKnownProcessed(String eventKey) {
+        boolean known = recentlyProcessed.getIfPresent(eventKey) != null;
+        if (known) {
+            memoryDuplicateCounter.increment();
+        }
+        return known;
+    }
+
+    // 원장에 아직 기록되지 않은 키만 반환 (조회 1회)
+    public Set<String> unrecorded(Collection<String> eventKeys) {
+        if (eventKeys.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> unrecorded = new HashSet<>(eventKeys);
+        List<String> recorded = processedEventRepository.findRecorded(eventKeys);
+        recorded.forEach(unrecorded::remove);
+        ledgerDuplicateCounter.increment(recorded.size());
+        return unrecorded;
+    }
+
+    // 처리 기록 - 호출한 쓰기 트랜잭션 안에서만 사용
+    // 커밋되면 전달한 키 전체를 앞단 LRU 에 기록 (롤백되면 기록하지 않음)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Collection<String> eventKeys) {
+        if (eventKeys.isEmpty()) {
+            return;
+        }
+        // 조회 이후 다른 컨슈머가 먼저 기록한 키는 중복으로 집계
+        int recorded = processedEventRepository.record(eventKeys);
+        ledgerDuplicateCounter.increment(eventKeys.size() - recorded);
+
+        List<String> processed = List.copyOf(eventKeys);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                processed.forEach(eventKey -> recentlyProcessed.put(eventKey, Boolean.TRUE));
+            }
+        });
+    }
+
+    // 보관 기간이 지난 처리 기록 정리
+    @Scheduled(cron = "${review.policy.dedup.cleanup-cron:-}")
+    public void cleanup() {
+        int deleted = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status ->
+                    processedEventRepository.deleteProcessedBefore(retention.toSeconds(), CLEANUP_CHUNK_SIZE));
+            int chunk = count == null ? 0 : count;
+            deleted += chunk;
+            if (chunk < CLEANUP_CHUNK_SIZE) {
+                logger.info("정책 이벤트 처리 기록 정리 - deleted: {}", deleted);
+                return;
+            }
+        }
+    }
+}
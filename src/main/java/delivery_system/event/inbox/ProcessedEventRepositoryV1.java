@@ -0,0 +1,39 @@
+package delivery_system.event.inbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProcessedEventRepositoryV1 extends JpaRepository<ProcessedEventEntityV1, String> {
+
+    // 처리 기록을 한 문장으로 추가하고 새로 기록된 건수를 반환 (이미 있는 키는 건너뜀)
+    // 같은 키를 다른 트랜잭션이 기록 중이면 그 트랜잭션이 끝날 때까지 대기
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_review_processed_event (event_key)
+            SELECT unnest(CAST(ARRAY[:eventKeys] AS VARCHAR[]))
+            ON CONFLICT (event_key) DO NOTHING
+            """, nativeQuery = true)
+    int record(Collection<String> eventKeys);
+
+    // 이미 기록된 키 (조회만, 잠금 없음)
+    @Query(value = "SELECT event_key FROM p_review_processed_event WHERE event_key IN (:eventKeys)", nativeQuery = true)
+    List<String> findRecorded(Collection<String> eventKeys);
+
+    // 보관 기간이 지난 처리 기록을 최대 limit 건 삭제
+    @Modifying
+    @Query(value = """
+            DELETE FROM p_review_processed_event
+            WHERE event_key IN (
+                SELECT event_key FROM p_review_processed_event
+                WHERE processed_at < now() - make_interval(secs => :retentionSeconds)
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteProcessedBefore(double retentionSeconds, int limit);
+}
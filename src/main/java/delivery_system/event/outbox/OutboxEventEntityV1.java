@@ -0,0 +1,52 @@
+package delivery_system.event.outbox;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트
+ * created_at / next_attempt_at 은 DB 시계(clock_timestamp())로 기록되며 발행 순서 판단에 사용됩니다.
+ */
+@Entity
+@Table(name = "p_review_outbox")
+@Data
+public class OutboxEventEntityV1 {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "p_review_outbox_seq")
+    @SequenceGenerator(name = "p_review_outbox_seq", sequenceName = "p_review_outbox_seq", allocationSize = 50)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", insertable = false, updatable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
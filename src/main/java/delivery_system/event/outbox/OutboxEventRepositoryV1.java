@@ -0,0 +1,97 @@
+package delivery_system.event.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepositoryV1 extends JpaRepository<OutboxEventEntityV1, Long> {
+
+    // 배치 점유는 인스턴스 중 하나씩만 실행 (트랜잭션 종료 시 자동 해제)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryRelayLock(long lockKey);
+
+    // 발행할 배치를 claimSeconds 동안 점유 (next_attempt_at 을 미뤄서 다른 주기/인스턴스가 다시 가져가지 않게 함)
+    // 같은 가게에 먼저 기록된 미해결 이벤트(재시도 대기, 다른 배치가 발행 중, FAILED)가 있으면 제외하여 가게 단위 순서를 지킴
+    // 먼저 기록된 이벤트가 지금 발행 가능하면 created_at 순서상 같은 배치의 앞쪽에 포함됩니다.
+    // 반환 순서는 보장되지 않으므로 호출하는 쪽에서 (created_at, outbox_id) 로 정렬해야 합니다.
+    @Query(value = """
+            WITH batch AS (
+                SELECT o.outbox_id
+                FROM p_review_outbox o
+                WHERE o.status = 'PENDING'
+                  AND o.next_attempt_at <= now()
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM p_review_outbox p
+                      WHERE p.aggregate_id = o.aggregate_id
+                        AND p.status IN ('PENDING', 'FAILED')
+                        AND (p.created_at, p.outbox_id) < (o.created_at, o.outbox_id)
+                        AND (p.status = 'FAILED' OR p.next_attempt_at > now())
+                  )
+                ORDER BY o.created_at, o.outbox_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE p_review_outbox o
+            SET next_attempt_at = now() + make_interval(secs => :claimSeconds)
+            FROM batch b
+            WHERE o.outbox_id = b.outbox_id
+            RETURNING o.outbox_id, o.aggregate_id, o.event_type, o.topic, o.payload, o.status,
+                      o.attempts, o.next_attempt_at, o.last_error, o.created_at, o.sent_at
+            """, nativeQuery = true)
+    List<OutboxEventEntityV1> claimRelayBatch(int limit, double claimSeconds);
+
+    // 발행 완료 기록
+    @Modifying
+    @Query(value = """
+            UPDATE p_review_outbox
+            SET status = 'SENT', sent_at = now(), last_error = NULL
+            WHERE outbox_id IN (:outboxIds)
+            """, nativeQuery = true)
+    int markSent(List<Long> outboxIds);
+
+    // 발행 실패 - delaySeconds 뒤에 재시도
+    @Modifying
+    @Query(value = """
+            UPDATE p_review_outbox
+            SET attempts = :attempts,
+                next_attempt_at = now() + make_interval(secs => :delaySeconds),
+                last_error = :lastError
+            WHERE outbox_id = :outboxId
+            """, nativeQuery = true)
+    int markRetry(long outboxId, int attempts, double delaySeconds, String lastError);
+
+    // 점유했지만 발행하지 않은 이벤트를 바로 다시 발행 대상으로 돌려놓음
+    @Modifying
+    @Query(value = """
+            UPDATE p_review_outbox
+            SET next_attempt_at = now()
+            WHERE outbox_id IN (:outboxIds) AND status = 'PENDING'
+            """, nativeQuery = true)
+    int releaseClaims(List<Long> outboxIds);
+
+    // 재시도 횟수 초과 - 운영자가 처리할 때까지 발행하지 않고 같은 가게의 이후 이벤트도 막음
+    @Modifying
+    @Query(value = """
+            UPDATE p_review_outbox
+            SET status = 'FAILED', attempts = :attempts, last_error = :lastError
+            WHERE outbox_id = :outboxId
+            """, nativeQuery = true)
+    int markFailed(long outboxId, int attempts, String lastError);
+
+    // 보관 기간이 지난 발행 완료 건을 최대 limit 건 삭제
+    @Modifying
+    @Query(value = """
+            DELETE FROM p_review_outbox
+            WHERE outbox_id IN (
+                SELECT outbox_id FROM p_review_outbox
+                WHERE status = 'SENT' AND sent_at < now() - make_interval(secs => :retentionSeconds)
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteSentBefore(double retentionSeconds, int limit);
+}
@@ -0,0 +1,47 @@
+package delivery_system.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import delivery_system.event.AbstractEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 아웃박스에 기록
+ * 호출한 쓰기 트랜잭션과 함께 커밋되며, 발행은 OutboxRelay 가 담당합니다.
+ *
+ * 같은 가게의 이벤트 순서를 커밋 순서와 맞추기 위해
+ * 가게 평점 집계 반영(행 잠금) 이후에 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final OutboxEventRepositoryV1 outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${review.outbox.topic:untitled}")
+    private String topic;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateId, AbstractEvent event) {
+        OutboxEventEntityV1 outboxEvent = new OutboxEventEntityV1();
+        outboxEvent.setAggregateId(aggregateId);
+        outboxEvent.setEventType(event.getEventType());
+        outboxEvent.setTopic(topic);
+        outboxEvent.setPayload(toJson(event));
+        outboxEvent.setStatus(OutboxStatus.PENDING);
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String toJson(AbstractEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패 - " + event.getEventType(), e);
+        }
+    }
+}
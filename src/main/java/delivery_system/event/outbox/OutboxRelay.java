@@ -0,0 +1,199 @@
+package delivery_system.event.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이
+ * 커밋된 아웃박스 이벤트를 배치 단위로 Kafka 에 발행합니다.
+ *
+ * - 가게 아이디를 메시지 키로 사용하므로 같은 가게의 이벤트는 같은 파티션에 순서대로 쌓입니다.
+ * - 배치를 claim-timeout 동안 점유하는 트랜잭션을 먼저 커밋하고, 트랜잭션 밖에서 발행한 뒤 결과를 기록합니다.
+ *   (Kafka 응답을 기다리는 동안 DB 트랜잭션과 행 잠금을 잡고 있지 않음)
+ *   기록 전에 종료되면 점유 시간이 지난 뒤 다시 발행합니다. (at-least-once)
+ * - 점유는 pg advisory lock 으로 인스턴스 중 하나씩만 하고, 점유 중인 이벤트가 있는 가게의 이후 이벤트는 점유하지 않습니다.
+ * - 발행에 실패하면 배치를 중단하고 지수 백오프 후 재시도, max-attempts 를 넘으면 FAILED 로 남깁니다.
+ *   FAILED 이벤트는 운영자가 처리할 때까지 같은 가게의 이후 이벤트 발행을 막습니다. (OutboxStatus)
+ * - 지표: review.outbox.sent / review.outbox.failed
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // pg_try_advisory_xact_lock 키 (다른 용도의 advisory lock 과 겹치지 않게 고정값 사용)
+    private static final long RELAY_LOCK_KEY = 7_010_001L;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepositoryV1 outboxEventRepository;
+    private final StreamBridge streamBridge;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    @Value("${review.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${review.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${review.outbox.backoff-initial:1s}")
+    private Duration backoffInitial;
+
+    @Value("${review.outbox.backoff-max:5m}")
+    private Duration backoffMax;
+
+    @Value("${review.outbox.retention:7d}")
+    private Duration retention;
+
+    // 배치 점유 시간 - 발행 시간이 이 값의 절반을 넘으면 남은 이벤트는 점유를 풀고 다음 주기에 발행
+    @Value("${review.outbox.claim-timeout:2m}")
+    private Duration claimTimeout;
+
+    public OutboxRelay(OutboxEventRepositoryV1 outboxEventRepository,
+                       StreamBridge streamBridge,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.streamBridge = streamBridge;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sentCounter = meterRegistry.counter("review.outbox.sent");
+        this.failedCounter = meterRegistry.counter("review.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${review.outbox.relay-interval-ms:500}")
+    public void relay() {
+        // 배치가 가득 찼으면 쌓인 이벤트가 더 있으므로 바로 다음 배치 처리
+        while (relayBatch() == batchSize) {
+            logger.debug("아웃박스 다음 배치 발행");
+        }
+    }
+
+    // 보관 기간이 지난 발행 완료 건 정리
+    @Scheduled(cron = "${review.outbox.cleanup-cron:-}")
+    public void cleanup() {
+        int deleted = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status ->
+                    outboxEventRepository.deleteSentBefore(retention.toSeconds(), batchSize * 10));
+            int chunk = count == null ? 0 : count;
+            deleted += chunk;
+            if (chunk < batchSize * 10) {
+                logger.info("아웃박스 발행 완료 건 정리 - deleted: {}", deleted);
+                return;
+            }
+        }
+    }
+
+    // 한 배치 점유 -> 발행 -> 결과 기록 후 발행 성공 건수 반환 (실패하거나 시간이 부족하면 중단하므로 batchSize 보다 작음)
+    int relayBatch() {
+        List<OutboxEventEntityV1> claimed = transactionTemplate.execute(status ->
+                outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)
+                        ? outboxEventRepository.claimRelayBatch(batchSize, claimTimeout.toMillis() / 1000.0)
+                        : List.of());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        List<OutboxEventEntityV1> batch = new ArrayList<>(claimed);
+        batch.sort(Comparator.comparing(OutboxEventEntityV1::getCreatedAt).thenComparing(OutboxEventEntityV1::getOutboxId));
+
+        long deadline = System.nanoTime() + claimTimeout.toNanos() / 2;
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        OutboxEventEntityV1 failedEvent = null;
+        Exception failure = null;
+        for (OutboxEventEntityV1 outboxEvent : batch) {
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+            try {
+                send(outboxEvent);
+                sentIds.add(outboxEvent.getOutboxId());
+            } catch (Exception e) {
+                // 이후 이벤트는 다음 주기에 처리 (같은 가게의 이벤트는 재시도 대기 동안 점유되지 않음)
+                failedEvent = outboxEvent;
+                failure = e;
+                break;
+            }
+        }
+
+        List<Long> unsentIds = batch.stream()
+                .map(OutboxEventEntityV1::getOutboxId)
+                .filter(outboxId -> !sentIds.contains(outboxId))
+                .toList();
+        OutboxEventEntityV1 failed = failedEvent;
+        Exception error = failure;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxEventRepository.markSent(sentIds);
+            }
+            if (failed != null) {
+                markFailed(failed, error);
+            }
+            List<Long> releaseIds = unsentIds.stream()
+                    .filter(outboxId -> failed == null || !outboxId.equals(failed.getOutboxId()))
+                    .toList();
+            if (!releaseIds.isEmpty()) {
+                outboxEventRepository.releaseClaims(releaseIds);
+            }
+        });
+        sentCounter.increment(sentIds.size());
+        return sentIds.size();
+    }
+
+    // 동기 발행 (spring.cloud.stream.kafka.bindings.<topic>.producer.sync=true 로 브로커 응답까지 대기)
+    private void send(OutboxEventEntityV1 outboxEvent) {
+        Message<String> message = MessageBuilder.withPayload(outboxEvent.getPayload())
+                .setHeader(KafkaHeaders.KEY, outboxEvent.getAggregateId().getBytes(StandardCharsets.UTF_8))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                .setHeader("eventType", outboxEvent.getEventType())
+                .build();
+        if (!streamBridge.send(outboxEvent.getTopic(), message)) {
+            throw new IllegalStateException("StreamBridge 발행 실패 - topic: " + outboxEvent.getTopic());
+        }
+    }
+
+    private void markFailed(OutboxEventEntityV1 outboxEvent, Exception e) {
+        failedCounter.increment();
+        int attempts = outboxEvent.getAttempts() + 1;
+        String error = abbreviate(e.toString());
+        if (attempts >= maxAttempts) {
+            logger.error("아웃박스 이벤트 발행 포기 (처리할 때까지 같은 가게의 이후 이벤트도 발행되지 않음) - outboxId: {}, aggregateId: {}, eventType: {}, attempts: {}",
+                    outboxEvent.getOutboxId(), outboxEvent.getAggregateId(), outboxEvent.getEventType(), attempts, e);
+            outboxEventRepository.markFailed(outboxEvent.getOutboxId(), attempts, error);
+            return;
+        }
+        Duration delay = backoff(attempts);
+        logger.warn("아웃박스 이벤트 발행 실패 - outboxId: {}, attempts: {}, 다음 시도: {}초 후, error: {}",
+                outboxEvent.getOutboxId(), attempts, delay.toSeconds(), error);
+        outboxEventRepository.markRetry(outboxEvent.getOutboxId(), attempts, delay.toMillis() / 1000.0, error);
+    }
+
+    // backoffInitial * 2^(attempts - 1), 최대 backoffMax
+    private Duration backoff(int attempts) {
+        Duration delay = backoffInitial.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private String abbreviate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,14 @@
+package delivery_system.event.outbox;
+
+/**
+ * 아웃박스 이벤트 발행 상태
+ *
+ * FAILED 는 운영자가 처리할 때까지 같은 가게의 이후 이벤트 발행을 막습니다. (가게 단위 순서 보장)
+ * 다시 발행하려면 PENDING (attempts = 0, next_attempt_at = now()), 건너뛰려면 DISCARDED 로 바꿉니다.
+ */
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED,
+    DISCARDED
+}
@@ -0,0 +1,25 @@
+package delivery_system.review.application.cache;
+
+import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 2차 캐시를 사용하지 않을 때의 기본 구현
+ */
+public class NoOpStoreReviewCacheTier implements StoreReviewCacheTier {
+
+    @Override
+    public Optional<ResStoreReviewDtoV1> get(StoreReviewCacheKey key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(StoreReviewCacheKey key, ResStoreReviewDtoV1 value) {
+    }
+
+    @Override
+    public void evictStore(UUID storeId) {
+    }
+}
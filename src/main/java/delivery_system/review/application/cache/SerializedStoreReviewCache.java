@@ -0,0 +1,76 @@
+package delivery_system.review.application.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import delivery_system.common.response.PreSerializedResult;
+import delivery_system.review.domain.ReviewVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 가게 리뷰 조회 응답의 직렬화된 바이트 캐시 (review.cache.store.serialized)
+ *
+ * - 키에 가게 리뷰 버전(평점 집계 version, 리뷰 쓰기마다 증가)이 포함되므로 무효화 없이도 변경 즉시 새 키로 조회되고,
+ *   다른 인스턴스에서 일어난 변경도 바로 반영됩니다. 이전 버전 항목은 접근이 없어지면 ttl 뒤 만료됩니다.
+ * - 크기는 항목 수가 아니라 바이트(max-bytes) 기준입니다.
+ * - 지표: cache.gets / cache.evictions {cache="review.store-reviews.serialized"}
+ *
+ * 켜져 있으면 객체 캐시(StoreReviewCache)를 거치지 않습니다.
+ */
+@Component
+public class SerializedStoreReviewCache {
+
+    private static final String CACHE_NAME = "review.store-reviews.serialized";
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Cache<StoreReviewCacheKey, PreSerializedResult> cache;
+
+    public SerializedStoreReviewCache(@Value("${review.cache.store.serialized.enabled:false}") boolean enabled,
+                                      @Value("${review.cache.store.serialized.max-bytes:67108864}") long maxBytes,
+                                      @Value("${review.cache.store.serialized.ttl:10m}") Duration ttl,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((StoreReviewCacheKey key, PreSerializedResult value) -> value.weight())
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // key.version 의 응답 바이트 조회, 없으면 loader 로 읽어 직렬화 (같은 키는 한 요청만 읽음)
+    // 읽는 동안 버전이 바뀌었으면(예: 복제본마다 지연이 다름) 읽은 버전으로 응답만 하고 캐시하지 않음
+    public SerializedStoreReviews get(StoreReviewCacheKey key, Supplier<VersionedStoreReviews> loader) {
+        SerializedStoreReviews[] uncached = new SerializedStoreReviews[1];
+        PreSerializedResult result = cache.get(key, k -> {
+            VersionedStoreReviews loaded = loader.get();
+            PreSerializedResult serialized = PreSerializedResult.of(objectMapper, loaded.reviews());
+            if (!key.version().tag().equals(loaded.version().tag())) {
+                uncached[0] = new SerializedStoreReviews(loaded.version(), serialized);
+                return null;
+            }
+            return serialized;
+        });
+        return result != null ? new SerializedStoreReviews(key.version(), result) : uncached[0];
+    }
+
+    /**
+     * 직렬화된 가게 리뷰 페이지와 그 페이지의 가게 리뷰 버전
+     */
+    public record SerializedStoreReviews(ReviewVersion version, PreSerializedResult result) {
+    }
+}
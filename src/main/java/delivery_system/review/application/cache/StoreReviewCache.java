@@ -0,0 +1,116 @@
+package delivery_system.review.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 가게 리뷰 조회 read-through 캐시
+ *
+ * - 크기(max-size)와 TTL 로 만료되는 로컬 Caffeine 캐시 + 선택적 2차 캐시(StoreReviewCacheTier)
+ * - 무효화는 가게별 세대(generation) 번호를 올리는 방식입니다.
+ *   로컬 키에 세대가 포함되므로 무효화 이전에 조회를 시작한 요청이 오래된 값을 다시 넣어도 더 이상 조회되지 않습니다.
+ *   2차 캐시는 인스턴스끼리 공유하므로 키에 세대를 넣지 않고, 조회 중 세대가 바뀌었으면 넣지 않습니다.
+ * - 키에 가게 리뷰 버전(ETag)이 포함되므로 다른 인스턴스의 쓰기도 버전이 바뀌는 즉시(version-ttl 안) 새 키로 조회됩니다.
+ *   읽는 동안 버전이 바뀐 페이지는 캐시하지 않고, 읽은 버전과 함께 응답합니다.
+ * - 지표: cache.gets / cache.evictions / cache.load.duration {cache="review.store-reviews"}
+ */
+@Component
+public class StoreReviewCache {
+
+    private static final String CACHE_NAME = "review.store-reviews";
+
+    private final boolean enabled;
+    private final Cache<LocalKey, ResStoreReviewDtoV1> cache;
+    private final Cache<UUID, Long> generations;
+    private final StoreReviewCacheTier secondTier;
+
+    public StoreReviewCache(@Value("${review.cache.store.enabled:true}") boolean enabled,
+                            @Value("${review.cache.store.max-size:10000}") long maxSize,
+                            @Value("${review.cache.store.ttl:30s}") Duration ttl,
+                            StoreReviewCacheTier secondTier,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.secondTier = secondTier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // 세대 번호는 캐시 항목보다 오래 유지되어야 무효화된 항목이 되살아나지 않음
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(ttl.multipliedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 캐시 조회, 없으면 2차 캐시 -> loader 순으로 적재
+    public VersionedStoreReviews get(StoreReviewCacheKey key, Supplier<VersionedStoreReviews> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        LocalKey localKey = new LocalKey(key, generationOf(key.storeId()));
+        VersionedStoreReviews[] uncached = new VersionedStoreReviews[1];
+        ResStoreReviewDtoV1 reviews = cache.get(localKey, k -> secondTier.get(key).orElseGet(() -> {
+            VersionedStoreReviews loaded = loader.get();
+            if (!key.version().tag().equals(loaded.version().tag())) {
+                uncached[0] = loaded;
+                return null;
+            }
+            putSecondTier(key, localKey.generation(), loaded.reviews());
+            return loaded.reviews();
+        }));
+        return reviews != null ? new VersionedStoreReviews(key.version(), reviews) : uncached[0];
+    }
+
+    // 조회를 시작한 뒤 무효화되었으면 2차 캐시에 넣지 않음
+    // put 도중 무효화가 끼어들면 방금 넣은 값이 남을 수 있으므로 한 번 더 확인해서 지움
+    private void putSecondTier(StoreReviewCacheKey key, long generation, ResStoreReviewDtoV1 reviews) {
+        if (generationOf(key.storeId()) != generation) {
+            return;
+        }
+        secondTier.put(key, reviews);
+        if (generationOf(key.storeId()) != generation) {
+            secondTier.evictStore(key.storeId());
+        }
+    }
+
+    // 가게 캐시 무효화 (트랜잭션 안이면 커밋 후 한 번 더 무효화)
+    public void evictStore(UUID storeId) {
+        if (!enabled) {
+            return;
+        }
+        evictNow(storeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(storeId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(UUID storeId) {
+        generations.asMap().merge(storeId, 1L, Long::sum);
+        secondTier.evictStore(storeId);
+    }
+
+    private long generationOf(UUID storeId) {
+        Long generation = generations.getIfPresent(storeId);
+        return generation == null ? 0L : generation;
+    }
+
+    private record LocalKey(StoreReviewCacheKey key, long generation) {
+    }
+}
@@ -0,0 +1,17 @@
+package delivery_system.review.application.cache;
+
+import delivery_system.review.domain.ReviewFilter;
+import delivery_system.review.domain.ReviewSortType;
+import delivery_system.review.domain.ReviewVersion;
+
+import java.util.UUID;
+
+/**
+ * 가게 리뷰 페이지 캐시 키
+ *
+ * @param version 요청 시점의 가게 리뷰 버전 (ETag 와 같은 값, 다른 인스턴스의 쓰기도 새 키로 반영됨)
+ * @param cursor  첫 페이지이면 null
+ */
+public record StoreReviewCacheKey(UUID storeId, ReviewVersion version, ReviewFilter filter, ReviewSortType sort,
+                                  String cursor, int size) {
+}
@@ -0,0 +1,20 @@
+package delivery_system.review.application.cache;
+
+import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 가게 리뷰 캐시의 2차 저장소 (여러 인스턴스가 공유하는 캐시, 예: Redis)
+ * 로컬 캐시 미스 시 조회되며, 리뷰 쓰기 시 가게 단위로 무효화됩니다.
+ * 등록된 빈이 없으면 NoOpStoreReviewCacheTier 가 사용됩니다.
+ */
+public interface StoreReviewCacheTier {
+
+    Optional<ResStoreReviewDtoV1> get(StoreReviewCacheKey key);
+
+    void put(StoreReviewCacheKey key, ResStoreReviewDtoV1 value);
+
+    void evictStore(UUID storeId);
+}
@@ -0,0 +1,61 @@
+package delivery_system.review.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import delivery_system.review.domain.ReviewVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 가게 리뷰 버전(평점 집계 version) 로컬 캐시 - 가게 리뷰 조건부 요청(304)과 직렬화 캐시 키에 사용
+ *
+ * - 요청마다 평점 집계를 조회하지 않고, 없을 때만 loader 로 읽습니다. (같은 가게는 한 요청만 읽음)
+ * - 이 인스턴스의 쓰기는 커밋 후 항목을 지우므로 다음 요청이 새 버전을 읽습니다.
+ *   (sticky-window 동안 그 가게의 조회는 primary 에서 읽으므로 복제본의 이전 버전이 다시 캐시되지 않음)
+ * - 다른 인스턴스의 쓰기는 ttl 안에 반영됩니다.
+ * - 지표: cache.gets / cache.evictions {cache="review.store-review-versions"}
+ */
+@Component
+public class StoreReviewVersions {
+
+    private static final String CACHE_NAME = "review.store-review-versions";
+
+    private final Cache<UUID, ReviewVersion> versions;
+
+    public StoreReviewVersions(@Value("${review.cache.store.version-max-size:100000}") long maxSize,
+                               @Value("${review.cache.store.version-ttl:2s}") Duration ttl,
+                               MeterRegistry meterRegistry) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, CACHE_NAME);
+    }
+
+    // 가게 리뷰 버전 조회, 없으면 loader 로 적재
+    public ReviewVersion get(UUID storeId, Supplier<ReviewVersion> loader) {
+        return versions.get(storeId, k -> loader.get());
+    }
+
+    // 가게 리뷰 버전 무효화 (트랜잭션 안이면 커밋 후 한 번 더 무효화)
+    public void evict(UUID storeId) {
+        versions.invalidate(storeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.invalidate(storeId);
+                }
+            });
+        }
+    }
+}
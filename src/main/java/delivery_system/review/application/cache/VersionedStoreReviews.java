@@ -0,0 +1,10 @@
+package delivery_system.review.application.cache;
+
+import delivery_system.review.domain.ReviewVersion;
+import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
+
+/**
+ * 가게 리뷰 페이지와 읽기 직전에 확인한 가게 리뷰 버전 (응답의 ETag 는 이 버전으로 보냄)
+ */
+public record VersionedStoreReviews(ReviewVersion version, ResStoreReviewDtoV1 reviews) {
+}
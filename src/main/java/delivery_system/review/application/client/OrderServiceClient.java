@@ -0,0 +1,35 @@
+package delivery_system.review.application.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 서비스 조회 클라이언트 (리뷰 등록 전 주문 확인용)
+ *
+ * 연결/응답 제한 시간은 spring.cloud.openfeign.client.config.order-service 에서 설정하며,
+ * 호출은 OrderVerificationService 의 circuit breaker / bulkhead 를 거쳐야 합니다.
+ */
+@FeignClient(name = "order-service", url = "${review.order-verification.url:http://localhost:8082}")
+public interface OrderServiceClient {
+
+    // 주문 한 건 (없으면 404 -> FeignException.NotFound)
+    @GetMapping("/api/v1/orders/{orderId}")
+    OrderSummary getOrder(@PathVariable("orderId") UUID orderId);
+
+    // 주문 여러 건 (없는 주문은 결과에서 빠짐)
+    @PostMapping("/api/v1/orders/batch")
+    List<OrderSummary> getOrders(@RequestBody List<UUID> orderIds);
+
+    /**
+     * 리뷰 등록 확인에 필요한 주문 정보
+     * status 는 주문 서비스의 주문 상태 이름 (예: DELIVERED)
+     */
+    record OrderSummary(UUID orderId, String customerId, UUID storeId, String status) {
+    }
+}
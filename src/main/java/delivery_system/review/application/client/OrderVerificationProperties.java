@@ -0,0 +1,38 @@
+package delivery_system.review.application.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 리뷰 등록 전 주문 확인 설정 (review.order-verification)
+ *
+ * 주문 서비스 호출 제한 시간은 spring.cloud.openfeign.client.config.order-service 의
+ * connect-timeout / read-timeout 으로 설정합니다.
+ */
+@ConfigurationProperties("review.order-verification")
+public record OrderVerificationProperties(
+        // 꺼져 있으면 주문 서비스를 호출하지 않고 모든 주문을 허용
+        @DefaultValue("false") boolean enabled,
+        // 리뷰를 쓸 수 있는 주문 상태
+        @DefaultValue("DELIVERED") Set<String> eligibleStatuses,
+        // 주문 서비스를 호출할 수 없을 때 (오류/제한 시간 초과/circuit open/bulkhead 초과) 등록 허용 여부
+        @DefaultValue("false") boolean failOpen,
+        // 확인된(리뷰 가능) 주문만 캐시, 거절 결과는 캐시하지 않음
+        @DefaultValue("10m") Duration cacheTtl,
+        @DefaultValue("100000") long cacheMaxSize,
+        // 일괄 등록 시 주문 서비스 한 번 호출에 묻는 최대 주문 수
+        @DefaultValue("100") int batchSize,
+        // bulkhead: 동시 호출 수 / 자리가 없을 때 기다리는 시간 (0 이면 바로 거절)
+        @DefaultValue("20") int maxConcurrentCalls,
+        @DefaultValue("0ms") Duration maxWait,
+        // circuit breaker: 최근 sliding-window-size 번 호출 중 실패(또는 slow-call-threshold 이상 걸린 호출) 비율이
+        // failure-rate-threshold(%) 이상이면 open-state-wait 동안 호출하지 않음
+        @DefaultValue("50") float failureRateThreshold,
+        @DefaultValue("300ms") Duration slowCallThreshold,
+        @DefaultValue("20") int slidingWindowSize,
+        @DefaultValue("10s") Duration openStateWait
+) {
+}
@@ -0,0 +1,97 @@
+package delivery_system.review.application.metrics;
+
+import delivery_system.review.domain.OrderEligibility;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리뷰 도메인 지표
+ * 호출 경로에서 태그 조합/미터 조회가 일어나지 않도록 미터를 생성 시점에 모두 등록해 둡니다.
+ *
+ * - review.query.rows (query=store|customer|search) : 목록 조회 한 번에 DB 에서 읽은 행 수
+ * - review.duplicate.rejected (source=single|bulk) : 주문당 리뷰 1건 제약으로 거절된 등록 수
+ * - review.order.verification (result=eligible|not_found|customer_mismatch|store_mismatch|not_delivered|unavailable)
+ *   : 리뷰 등록 전 주문 확인 결과 (unavailable 은 주문 서비스 호출 실패 횟수)
+ * - review.store.max-review-count : 조회된 가게 중 가장 많은 리뷰 수 (평점 집계 기준)
+ */
+@Component
+public class ReviewMetrics {
+
+    private final DistributionSummary storeRows;
+    private final DistributionSummary customerRows;
+    private final DistributionSummary searchRows;
+    private final Counter singleDuplicates;
+    private final Counter bulkDuplicates;
+    private final Map<OrderEligibility, Counter> orderVerifications = new EnumMap<>(OrderEligibility.class);
+    private final Counter orderVerificationUnavailable;
+    private final AtomicLong maxStoreReviewCount = new AtomicLong();
+
+    public ReviewMetrics(MeterRegistry meterRegistry) {
+        this.storeRows = rowsSummary(meterRegistry, "store");
+        this.customerRows = rowsSummary(meterRegistry, "customer");
+        this.searchRows = rowsSummary(meterRegistry, "search");
+        this.singleDuplicates = meterRegistry.counter("review.duplicate.rejected", "source", "single");
+        this.bulkDuplicates = meterRegistry.counter("review.duplicate.rejected", "source", "bulk");
+        for (OrderEligibility eligibility : OrderEligibility.values()) {
+            orderVerifications.put(eligibility, meterRegistry.counter("review.order.verification",
+                    "result", eligibility.name().toLowerCase(Locale.ROOT)));
+        }
+        this.orderVerificationUnavailable = meterRegistry.counter("review.order.verification", "result", "unavailable");
+        Gauge.builder("review.store.max-review-count", maxStoreReviewCount, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    public void recordStoreRows(int rows) {
+        storeRows.record(rows);
+    }
+
+    public void recordCustomerRows(int rows) {
+        customerRows.record(rows);
+    }
+
+    public void recordSearchRows(int rows) {
+        searchRows.record(rows);
+    }
+
+    public void duplicateRejected() {
+        singleDuplicates.increment();
+    }
+
+    public void bulkDuplicatesRejected(int count) {
+        if (count > 0) {
+            bulkDuplicates.increment(count);
+        }
+    }
+
+    public void orderVerified(OrderEligibility eligibility) {
+        orderVerifications.get(eligibility).increment();
+    }
+
+    public void orderVerificationUnavailable() {
+        orderVerificationUnavailable.increment();
+    }
+
+    // 최댓값이 바뀔 때만 CAS
+    public void observeStoreReviewCount(long reviewCount) {
+        if (reviewCount > maxStoreReviewCount.get()) {
+            maxStoreReviewCount.accumulateAndGet(reviewCount, Math::max);
+        }
+    }
+
+    private static DistributionSummary rowsSummary(MeterRegistry meterRegistry, String query) {
+        return DistributionSummary.builder("review.query.rows")
+                .tag("query", query)
+                .baseUnit("rows")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package delivery_system.review.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ReviewService 공개 메서드 실행 시간 (review.service, method / outcome=success|error, 백분위 히스토그램)
+ *
+ * 트랜잭션 프록시보다 바깥에서 측정하므로 커밋 시간까지 포함합니다.
+ * 타이머는 메서드별로 처음 호출될 때 한 번만 등록합니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReviewServiceTimingAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+    private final Function<Method, MethodTimers> registerTimers = this::register;
+
+    public ReviewServiceTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * delivery_system.review.application.service.ReviewService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, registerTimers);
+        }
+
+        long started = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.error().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MethodTimers register(Method method) {
+        return new MethodTimers(timer(method, "success"), timer(method, "error"));
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder("review.service")
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+    }
+}
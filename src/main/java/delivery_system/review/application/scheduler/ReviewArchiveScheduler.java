@@ -0,0 +1,77 @@
+package delivery_system.review.application.scheduler;
+
+import delivery_system.review.domain.repository.ReviewRepositoryV1;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 삭제 리뷰 보관 작업
+ *
+ * - 삭제된 지 retention 이 지난 리뷰를 batch-size 건씩 별도 트랜잭션에서 p_review_archive 로 옮깁니다.
+ *   한 번 실행에 max-batches 배치까지만 옮기고 남은 건은 다음 실행에서 처리합니다.
+ * - 지표: review.archive.archived
+ *
+ * review.archive.cron 을 지정하지 않으면 실행되지 않습니다. (기본값 "-")
+ * 월별 파티션 생성은 이 작업과 별개로 항상 실행됩니다. (ReviewPartitionScheduler)
+ */
+@Component
+public class ReviewArchiveScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewArchiveScheduler.class);
+
+    private final ReviewRepositoryV1 reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+
+    @Value("${review.archive.retention:30d}")
+    private Duration retention;
+
+    @Value("${review.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${review.archive.max-batches:500}")
+    private int maxBatches;
+
+    public ReviewArchiveScheduler(ReviewRepositoryV1 reviewRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedCounter = meterRegistry.counter("review.archive.archived");
+    }
+
+    @Scheduled(cron = "${review.archive.cron:-}")
+    public void run() {
+        archive();
+    }
+
+    // 보관 기간이 지난 삭제 리뷰 이동, 옮긴 건수 반환
+    public int archive() {
+        long started = System.currentTimeMillis();
+        int archived = 0;
+        int batches = 0;
+        while (batches < maxBatches) {
+            Integer count = transactionTemplate.execute(status ->
+                    reviewRepository.archiveDeletedBefore(retention.toSeconds(), batchSize));
+            int chunk = count == null ? 0 : count;
+            archived += chunk;
+            archivedCounter.increment(chunk);
+            batches++;
+            if (chunk < batchSize) {
+                break;
+            }
+        }
+        logger.info("삭제 리뷰 보관 - archived: {}, batches: {}, elapsed: {}ms",
+                archived, batches, System.currentTimeMillis() - started);
+        return archived;
+    }
+}
@@ -0,0 +1,65 @@
+package delivery_system.review.application.scheduler;
+
+import delivery_system.review.domain.repository.ReviewRepositoryV1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 리뷰 월별 파티션 미리 생성 작업
+ *
+ * p_review 에는 기본(DEFAULT) 파티션이 없어서 파티션이 없는 달의 리뷰는 등록이 실패합니다. (V13)
+ * 그래서 보관 작업(ReviewArchiveScheduler)과 달리 끌 수 없고, 기동 시 한 번 + review.partition.cron 마다
+ * 이번 달부터 months-ahead 개월 뒤까지의 파티션을 만듭니다. (이미 있는 달은 건너뜀)
+ * 실패하면(잠금 대기 초과 등) 로그만 남기고 다음 실행에서 다시 시도합니다.
+ */
+@Component
+public class ReviewPartitionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPartitionScheduler.class);
+
+    private final ReviewRepositoryV1 reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${review.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    public ReviewPartitionScheduler(ReviewRepositoryV1 reviewRepository, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    // 빈 값이나 "-" 로 끌 수 없도록 기본값은 매시 5분
+    @Scheduled(cron = "${review.partition.cron:0 5 * * * *}")
+    public void run() {
+        try {
+            createPartitions();
+        } catch (Exception e) {
+            logger.warn("리뷰 월별 파티션 생성 실패", e);
+        }
+    }
+
+    // 이번 달부터 monthsAhead 개월 뒤까지의 파티션 생성, 새로 만든 파티션 수 반환
+    public int createPartitions() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        Integer created = transactionTemplate.execute(status ->
+                reviewRepository.createMonthlyPartitions(thisMonth, thisMonth.plusMonths(monthsAhead + 1L)));
+        if (created != null && created > 0) {
+            logger.info("리뷰 월별 파티션 생성 - created: {}", created);
+        }
+        return created == null ? 0 : created;
+    }
+}
@@ -0,0 +1,43 @@
+package delivery_system.review.application.scheduler;
+
+import delivery_system.review.application.service.StoreRatingSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 평점 변경(StoreRatingChanged) 발행 작업
+ *
+ * 리뷰 쓰기 경로는 평점 집계의 version 만 올리고, 이 작업이 주기마다 version 이 바뀐 가게를 모아
+ * 가게당 한 건의 이벤트를 아웃박스에 기록합니다. (Kafka 발행은 OutboxRelay, 메시지 키는 storeId)
+ * 한 가게에 리뷰가 몰려도 주기당 메시지는 한 건입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreRatingChangePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreRatingChangePublisher.class);
+
+    private final StoreRatingSummaryService summaryService;
+
+    @Value("${review.rating-summary.publish-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${review.rating-summary.publish-interval-ms:1000}")
+    public void publish() {
+        int published = 0;
+        int count;
+        // 배치가 가득 찼으면 밀린 가게가 더 있으므로 바로 다음 배치 처리 (배치마다 별도 트랜잭션)
+        do {
+            count = summaryService.publishChanges(batchSize);
+            published += count;
+        } while (count == batchSize);
+
+        if (published > 0) {
+            logger.debug("가게 평점 변경 이벤트 기록 - stores: {}", published);
+        }
+    }
+}
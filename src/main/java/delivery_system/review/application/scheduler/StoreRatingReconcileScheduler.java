@@ -0,0 +1,59 @@
+package delivery_system.review.application.scheduler;
+
+import delivery_system.review.application.service.StoreRatingSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가게 평점 집계 재계산(정합성 보정) 작업
+ * 가게 단위로 별도 트랜잭션에서 p_review 를 다시 집계합니다.
+ *
+ * review.rating-summary.reconcile-cron 을 지정하지 않으면 실행되지 않습니다. (기본값 "-")
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreRatingReconcileScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreRatingReconcileScheduler.class);
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final StoreRatingSummaryService summaryService;
+
+    @Value("${review.rating-summary.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${review.rating-summary.reconcile-cron:-}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        int rebuilt = rebuildAll();
+        logger.info("가게 평점 집계 재계산 완료 - stores: {}, elapsed: {}ms", rebuilt, System.currentTimeMillis() - started);
+    }
+
+    // 전체 가게 재계산 (실패한 가게는 건너뛰고 다음 실행에서 다시 시도)
+    public int rebuildAll() {
+        int rebuilt = 0;
+        UUID after = MIN_UUID;
+        while (true) {
+            List<UUID> storeIds = summaryService.findStoreIdsAfter(after, batchSize);
+            for (UUID storeId : storeIds) {
+                try {
+                    summaryService.rebuild(storeId);
+                    rebuilt++;
+                } catch (Exception e) {
+                    logger.warn("가게 평점 집계 재계산 실패 - storeId: {}", storeId, e);
+                }
+            }
+            if (storeIds.size() < batchSize) {
+                return rebuilt;
+            }
+            after = storeIds.get(storeIds.size() - 1);
+        }
+    }
+}
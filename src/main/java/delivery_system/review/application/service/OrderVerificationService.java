@@ -0,0 +1,210 @@
+package delivery_system.review.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import delivery_system.common.LogSampler;
+import delivery_system.common.exception.review.OrderVerificationUnavailableException;
+import delivery_system.common.exception.review.ReviewException;
+import delivery_system.review.application.client.OrderServiceClient;
+import delivery_system.review.application.client.OrderServiceClient.OrderSummary;
+import delivery_system.review.application.client.OrderVerificationProperties;
+import delivery_system.review.application.metrics.ReviewMetrics;
+import delivery_system.review.domain.OrderEligibility;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 리뷰 등록 전 주문 확인 (주문 서비스 조회)
+ *
+ * - 주문이 있고, 요청한 사용자/가게의 주문이며, 배달 완료 상태일 때만 리뷰를 등록할 수 있습니다.
+ * - 리뷰를 쓸 수 있는 상태로 확인된 주문만 cache-ttl 동안 캐시합니다. (재시도/중복 요청은 주문 서비스를 다시 호출하지 않음)
+ *   거절된 주문은 곧 배달 완료될 수 있으므로 캐시하지 않습니다.
+ * - 일괄 등록은 캐시에 없는 주문만 batch-size 개씩 묶어 조회합니다.
+ * - 호출은 circuit breaker -> bulkhead -> Feign(제한 시간) 순으로 감싸며,
+ *   호출할 수 없으면 OrderVerificationUnavailableException (fail-open 이면 허용)
+ * - 리뷰 트랜잭션 밖에서 호출해야 주문 서비스가 느려도 DB 커넥션을 붙잡지 않습니다.
+ */
+@Service
+public class OrderVerificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderVerificationService.class);
+
+    private static final String CACHE_NAME = "review.verified-orders";
+    private static final String UNAVAILABLE_MESSAGE = "주문 정보를 확인할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final OrderServiceClient orderServiceClient;
+    private final OrderVerificationProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ReviewMetrics reviewMetrics;
+    private final Cache<UUID, OrderSummary> verifiedOrders;
+    private final LogSampler unavailableLogSampler = new LogSampler(Duration.ofSeconds(10));
+
+    public OrderVerificationService(OrderServiceClient orderServiceClient,
+                                    OrderVerificationProperties properties,
+                                    CircuitBreaker orderServiceCircuitBreaker,
+                                    Bulkhead orderServiceBulkhead,
+                                    ReviewMetrics reviewMetrics,
+                                    MeterRegistry meterRegistry) {
+        this.orderServiceClient = orderServiceClient;
+        this.properties = properties;
+        this.circuitBreaker = orderServiceCircuitBreaker;
+        this.bulkhead = orderServiceBulkhead;
+        this.reviewMetrics = reviewMetrics;
+        this.verifiedOrders = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaxSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedOrders, CACHE_NAME);
+    }
+
+    // 리뷰 한 건 등록 전 확인 (작성할 수 없는 주문이면 ReviewException)
+    public void verify(String customerId, UUID storeId, UUID orderId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        OrderSummary order = verifiedOrders.getIfPresent(orderId);
+        if (order == null) {
+            try {
+                order = call(() -> findOrder(orderId));
+            } catch (OrderVerificationUnavailableException e) {
+                if (properties.failOpen()) {
+                    return;
+                }
+                throw e;
+            }
+            remember(order);
+        }
+
+        OrderEligibility eligibility = eligibility(order, customerId, storeId);
+        reviewMetrics.orderVerified(eligibility);
+        if (eligibility != OrderEligibility.ELIGIBLE) {
+            throw new ReviewException(eligibility.getMessage());
+        }
+    }
+
+    // 일괄 등록 전 주문 조회 (캐시에 없는 주문만 batch-size 개씩 묶어 조회), 항목별 판정은 eligibility(lookup, ...)
+    public OrderLookup checkAll(Collection<UUID> orderIds) {
+        if (!properties.enabled()) {
+            return new OrderLookup(Map.of(), Set.copyOf(orderIds));
+        }
+        Map<UUID, OrderSummary> orders = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID orderId : new LinkedHashSet<>(orderIds)) {
+            OrderSummary cached = verifiedOrders.getIfPresent(orderId);
+            if (cached != null) {
+                orders.put(orderId, cached);
+            } else {
+                misses.add(orderId);
+            }
+        }
+
+        Set<UUID> unchecked = new HashSet<>();
+        int batchSize = Math.max(1, properties.batchSize());
+        for (int from = 0; from < misses.size(); from += batchSize) {
+            List<UUID> chunk = misses.subList(from, Math.min(from + batchSize, misses.size()));
+            try {
+                List<OrderSummary> found = call(() -> orderServiceClient.getOrders(chunk));
+                if (found != null) {
+                    for (OrderSummary order : found) {
+                        orders.put(order.orderId(), order);
+                        remember(order);
+                    }
+                }
+            } catch (OrderVerificationUnavailableException e) {
+                if (!properties.failOpen()) {
+                    throw e;
+                }
+                // 남은 주문은 확인하지 않고 허용 (circuit 이 열렸으면 다음 묶음도 바로 실패하므로 호출하지 않음)
+                unchecked.addAll(misses.subList(from, misses.size()));
+                break;
+            }
+        }
+        return new OrderLookup(orders, unchecked);
+    }
+
+    // 없는 주문(404)은 정상 응답이므로 circuit breaker 실패로 세지 않도록 호출 안에서 null 로 변환
+    private OrderSummary findOrder(UUID orderId) {
+        try {
+            return orderServiceClient.getOrder(orderId);
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+    }
+
+    // circuit breaker -> bulkhead 를 거쳐 주문 서비스 호출, 호출할 수 없으면 OrderVerificationUnavailableException
+    private <T> T call(Supplier<T> supplier) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+        } catch (CallNotPermittedException | BulkheadFullException | FeignException e) {
+            reviewMetrics.orderVerificationUnavailable();
+            long suppressed = unavailableLogSampler.sample();
+            if (suppressed >= 0) {
+                logger.warn("주문 서비스 호출 실패 - circuit: {}, cause: {}, suppressed: {}",
+                        circuitBreaker.getState(), e.toString(), suppressed);
+            }
+            throw new OrderVerificationUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+    }
+
+    // 리뷰를 쓸 수 있는 상태의 주문만 캐시
+    private void remember(OrderSummary order) {
+        if (order != null && order.orderId() != null && properties.eligibleStatuses().contains(order.status())) {
+            verifiedOrders.put(order.orderId(), order);
+        }
+    }
+
+    // 일괄 등록 항목 판정 (checkAll 결과 기준)
+    public OrderEligibility eligibility(OrderLookup lookup, String customerId, UUID storeId, UUID orderId) {
+        if (lookup.unchecked().contains(orderId)) {
+            return OrderEligibility.ELIGIBLE;
+        }
+        OrderEligibility eligibility = eligibility(lookup.orders().get(orderId), customerId, storeId);
+        reviewMetrics.orderVerified(eligibility);
+        return eligibility;
+    }
+
+    private OrderEligibility eligibility(OrderSummary order, String customerId, UUID storeId) {
+        if (order == null) {
+            return OrderEligibility.NOT_FOUND;
+        }
+        if (!customerId.equals(order.customerId())) {
+            return OrderEligibility.CUSTOMER_MISMATCH;
+        }
+        if (!storeId.equals(order.storeId())) {
+            return OrderEligibility.STORE_MISMATCH;
+        }
+        if (!properties.eligibleStatuses().contains(order.status())) {
+            return OrderEligibility.NOT_DELIVERED;
+        }
+        return OrderEligibility.ELIGIBLE;
+    }
+
+    /**
+     * 일괄 등록 주문 조회 결과 (orderId -> 주문, 주문 서비스에 없는 주문은 빠짐)
+     * unchecked 는 확인하지 않고 허용할 주문 (확인 꺼짐 / fail-open 중 주문 서비스 호출 실패)
+     */
+    public record OrderLookup(Map<UUID, OrderSummary> orders, Set<UUID> unchecked) {
+    }
+}
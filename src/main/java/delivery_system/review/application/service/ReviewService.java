@@ -1,63 +1,249 @@
 package delivery_system.review.application.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import delivery_system.common.exception.review.ReviewException;
+import delivery_system.config.ReadYourWritesTracker;
+import delivery_system.event.outbox.OutboxEventWriter;
+import delivery_system.review.application.cache.SerializedStoreReviewCache;
+import delivery_system.review.application.cache.SerializedStoreReviewCache.SerializedStoreReviews;
+import delivery_system.review.application.cache.StoreReviewCache;
+import delivery_system.review.application.cache.StoreReviewCacheKey;
+import delivery_system.review.application.cache.StoreReviewVersions;
+import delivery_system.review.application.cache.VersionedStoreReviews;
+import delivery_system.review.application.metrics.ReviewMetrics;
+import delivery_system.review.application.service.OrderVerificationService.OrderLookup;
+import delivery_system.review.domain.OrderEligibility;
+import delivery_system.review.domain.ReviewCursor;
+import delivery_system.review.domain.ReviewExportFilter;
+import delivery_system.review.domain.ReviewFilter;
+import delivery_system.review.domain.ReviewPurgeTargets;
+import delivery_system.review.domain.ReviewSearchCursor;
+import delivery_system.review.domain.ReviewSearchQuery;
+import delivery_system.review.domain.ReviewSortType;
+import delivery_system.review.domain.ReviewVersion;
+import delivery_system.review.domain.StoreRatingDelta;
+import delivery_system.review.domain.event.ReviewCreated;
+import delivery_system.review.domain.event.ReviewDeleted;
+import delivery_system.review.domain.event.ReviewUpdated;
 import delivery_system.review.domain.entity.ReviewEntityV1;
+import delivery_system.review.domain.entity.StoreRatingSummaryEntityV1;
+import delivery_system.review.domain.repository.DeletedReviewView;
+import delivery_system.review.domain.repository.ReviewKeyView;
 import delivery_system.review.domain.repository.ReviewRepositoryV1;
+import delivery_system.review.domain.repository.ReviewSearchHit;
+import delivery_system.review.domain.repository.ReviewVersionView;
+import delivery_system.review.domain.repository.ReviewView;
+import delivery_system.review.presentation.dto.request.ReqBulkCreateReviewDtoV1;
 import delivery_system.review.presentation.dto.request.ReqCreateReviewDtoV1;
 import delivery_system.review.presentation.dto.request.ReqUpdateReviewDtoV1;
+import delivery_system.review.presentation.dto.response.ResBulkCreateReviewDtoV1;
 import delivery_system.review.presentation.dto.response.ResReviewDtoV1;
+import delivery_system.review.presentation.dto.response.ResReviewPageDtoV1;
+import delivery_system.review.presentation.dto.response.ResStoreRatingDistributionDtoV1;
 import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.text.DecimalFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.OptionalDouble;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ReviewService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // db/migration V4 에서 생성하는 (order_id, customer_id) 부분 유니크 인덱스
+    private static final String DUPLICATE_REVIEW_CONSTRAINT = "ux_p_review_order_customer_live";
+
+    // 가게 폐업 / 사용자 탈퇴 / 주문 취소로 삭제된 리뷰의 deleted_by
+    private static final String STORE_DELETED_BY = "store is deleted";
+    private static final String USER_DELETED_BY = "user is deleted";
+    private static final String ORDER_CANCELLED_BY = "order is cancelled";
+
+    // ReqCreateReviewDtoV1 의 content 최대 길이
+    private static final int MAX_CONTENT_LENGTH = 1000;
+
+    // 월별 파티션 이름 p_review_YYYYMM (V13 p_review_create_partitions)
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
     private final ReviewRepositoryV1 reviewRepository;
+    private final StoreRatingSummaryService storeRatingSummaryService;
+    private final PlatformTransactionManager transactionManager;
+    private final StoreReviewCache storeReviewCache;
+    private final StoreReviewVersions storeReviewVersions;
+    private final SerializedStoreReviewCache serializedStoreReviewCache;
+    private final OutboxEventWriter outboxEventWriter;
+    private final ObjectMapper objectMapper;
+    private final ReviewMetrics reviewMetrics;
+    private final OrderVerificationService orderVerificationService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Value("${review.purge.chunk-size:1000}")
+    private int purgeChunkSize;
+
+    // 내보내기 한 번의 조회 트랜잭션에서 읽을 행 수
+    @Value("${review.export.chunk-size:1000}")
+    private int exportChunkSize;
+
+    @Value("${review.bulk.max-items:1000}")
+    private int bulkMaxItems;
+
+    // 원본 작성 시각(createdAt)으로 받을 수 있는 가장 이른 날짜
+    @Value("${review.bulk.min-created-at:2010-01-01}")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bulkMinCreatedAt;
+
+    // 요청 한 번에 새로 만들 수 있는 월별 파티션 수
+    @Value("${review.bulk.max-new-partitions:24}")
+    private int bulkMaxNewPartitions;
+
+    // 가게 아이디로 리뷰 페이지 조회 (커서 기반, 가게 리뷰 버전별 캐시, 적중 시 DB 접근 없음)
+    // 캐시에 없으면 한 조회 트랜잭션에서 버전을 먼저 읽고 페이지를 읽음 (응답 ETag 는 읽은 버전)
+    // 쓰기 직후의 클라이언트는 다른 인스턴스에서 쓴 리뷰일 수 있으므로 로컬 캐시를 거치지 않고 primary 에서 읽음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VersionedStoreReviews getReviewByStoreId(UUID storeId, ReviewVersion version, ReviewFilter filter,
+                                                    ReviewSortType sort, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor, sort);
+        if (readYourWritesTracker.isCurrentRequestSticky()) {
+            return readStore(storeId, status -> loadVersionedStoreReviews(storeId, filter, sort, reviewCursor, pageSize));
+        }
+        StoreReviewCacheKey key = new StoreReviewCacheKey(storeId, version, filter, sort, cursor, pageSize);
+
+        return storeReviewCache.get(key, () -> readStore(storeId, status ->
+                loadVersionedStoreReviews(storeId, filter, sort, reviewCursor, pageSize)));
+    }
+
+    // 가게 리뷰 조회를 직렬화된 바이트 캐시로 응답하는지 (review.cache.store.serialized.enabled)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isSerializedStoreReviewsEnabled() {
+        return serializedStoreReviewCache.isEnabled();
+    }
 
-    // 가게 아이디로 전체 리뷰 조회
-    public ResStoreReviewDtoV1 getReviewByStoreId(UUID storeId) {
-        List<ReviewEntityV1> reviews = reviewRepository.findAllByStoreIdAndDeletedAtIsNull(storeId);
-        List<ResReviewDtoV1> list = reviews.stream().map(this::convertToResponse).toList();
+    // 가게 아이디로 리뷰 페이지 응답 바이트 조회 (가게 리뷰 버전별 캐시)
+    // 캐시에 없으면 한 조회 트랜잭션에서 버전을 먼저 읽고 페이지를 읽음 (버전보다 오래된 페이지가 캐시되지 않도록)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SerializedStoreReviews getSerializedReviewsByStoreId(UUID storeId, ReviewVersion version, ReviewFilter filter,
+                                                                ReviewSortType sort, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor, sort);
+        StoreReviewCacheKey key = new StoreReviewCacheKey(storeId, version, filter, sort, cursor, pageSize);
 
-        // 1. 평점 평균 계산
-        OptionalDouble averageRating = list.stream()
-                .mapToInt(ResReviewDtoV1::getRating)
-                .average();
+        return serializedStoreReviewCache.get(key, () -> readStore(storeId, status ->
+                loadVersionedStoreReviews(storeId, filter, sort, reviewCursor, pageSize)));
+    }
+
+    // 가게 별점 분포 (평점 집계 한 행만 조회, 리뷰를 읽지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResStoreRatingDistributionDtoV1 getStoreRatingDistribution(UUID storeId) {
+        return readStore(storeId, status -> loadStoreRatingDistribution(storeId));
+    }
 
-        // 2. 내용(content)이 있는 리뷰의 개수 계산
-        long contentCount = list.stream()
-                .filter(review -> review.getContent() != null && !review.getContent().trim().isEmpty())
-                .count();
+    private ResStoreRatingDistributionDtoV1 loadStoreRatingDistribution(UUID storeId) {
+        StoreRatingSummaryEntityV1 summary = storeRatingSummaryService.getSummary(storeId).orElse(null);
 
-        // 3. 평점 평균 반올림 및 포맷팅
-        double rawAverageRating = averageRating.orElse(0.0);
-        DecimalFormat df = new DecimalFormat("0.0");
-        String formattedAverageRatingString = df.format(rawAverageRating);
-        double finalAverageRating = Double.parseDouble(formattedAverageRatingString); // DTO가 double 타입일 경우
+        Map<Integer, Long> ratingCounts = new LinkedHashMap<>();
+        ratingCounts.put(5, summary == null ? 0L : summary.getRating5Count());
+        ratingCounts.put(4, summary == null ? 0L : summary.getRating4Count());
+        ratingCounts.put(3, summary == null ? 0L : summary.getRating3Count());
+        ratingCounts.put(2, summary == null ? 0L : summary.getRating2Count());
+        ratingCounts.put(1, summary == null ? 0L : summary.getRating1Count());
+
+        ResStoreRatingDistributionDtoV1 response = new ResStoreRatingDistributionDtoV1();
+        response.setStoreId(storeId);
+        response.setRatingAvg(summary == null ? 0.0 : summary.getRatingAvg());
+        response.setReviewCount(summary == null ? 0L : summary.getReviewCount());
+        response.setContentCount(summary == null ? 0L : summary.getContentCount());
+        response.setRatingCounts(ratingCounts);
+        return response;
+    }
+
+    // 가게 리뷰 버전 (로컬 캐시, 없으면 리뷰를 읽지 않고 평점 집계 한 행만 조회)
+    // 쓰기 직후의 클라이언트는 다른 인스턴스에서 쓴 리뷰일 수 있으므로 캐시를 거치지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReviewVersion getStoreReviewVersion(UUID storeId) {
+        if (readYourWritesTracker.isCurrentRequestSticky()) {
+            return readStore(storeId, status -> loadStoreReviewVersion(storeId));
+        }
+        return storeReviewVersions.get(storeId, () -> readStore(storeId, status -> loadStoreReviewVersion(storeId)));
+    }
+
+    private ReviewVersion loadStoreReviewVersion(UUID storeId) {
+        return storeRatingSummaryService.getSummary(storeId)
+                .map(summary -> new ReviewVersion("s" + summary.getVersion(), summary.getLastModifiedAt()))
+                .orElse(new ReviewVersion("s0", null));
+    }
+
+    // 가게 리뷰 버전 -> 페이지 순으로 조회 (페이지가 버전보다 오래되지 않도록)
+    private VersionedStoreReviews loadVersionedStoreReviews(UUID storeId, ReviewFilter filter, ReviewSortType sort,
+                                                            ReviewCursor cursor, int pageSize) {
+        ReviewVersion version = loadStoreReviewVersion(storeId);
+        return new VersionedStoreReviews(version, loadStoreReviews(storeId, filter, sort, cursor, pageSize));
+    }
+
+    // 가게 리뷰 페이지 + 평점 집계 조회
+    private ResStoreReviewDtoV1 loadStoreReviews(UUID storeId, ReviewFilter filter, ReviewSortType sort, ReviewCursor cursor, int pageSize) {
+        List<ReviewView> reviews = reviewRepository.findStorePage(storeId, filter, sort, cursor, pageSize + 1);
+        reviewMetrics.recordStoreRows(reviews.size());
+        ResReviewPageDtoV1 page = toPage(reviews, sort, pageSize);
+
+        // 평점 평균 / 내용이 있는 리뷰 개수는 가게 평점 집계에서 조회
+        StoreRatingSummaryEntityV1 summary = storeRatingSummaryService.getSummary(storeId).orElse(null);
+        if (summary != null) {
+            reviewMetrics.observeStoreReviewCount(summary.getReviewCount());
+        }
+        double finalAverageRating = summary == null ? 0.0 : summary.getRatingAvg();
+        long contentCount = summary == null ? 0L : summary.getContentCount();
 
         ResStoreReviewDtoV1 response = new ResStoreReviewDtoV1();
         response.setStoreId(storeId);
         response.setStoreRatingAvg(finalAverageRating);
         response.setStoreReviewCount(contentCount);
-        response.setReviews(list);
+        response.setReviews(page.getReviews());
+        response.setNextCursor(page.getNextCursor());
+        response.setHasNext(page.isHasNext());
 
         return response;
     }
 
     // 주문 아이디로 리뷰 조회
+    @Transactional(readOnly = true)
     public ResReviewDtoV1 getReviewByOrderId(String userId, UUID orderId) {
-        ReviewEntityV1 review = reviewRepository.findByOrderIdAndCustomerIdAndDeletedAtIsNull(orderId, userId);
+        ReviewView review = reviewRepository.findViewByOrderIdAndCustomerId(orderId, userId);
 
         if (review == null) {
             throw new ReviewException("리뷰가 등록되지 않았습니다.");
@@ -66,22 +252,93 @@ public class ReviewService {
         return convertToResponse(review);
     }
 
-    // 사용자 아이디로 전체 리뷰 조회
-    public List<ResReviewDtoV1> getReviewByCustomerId(String customerId) {
-        List<ReviewEntityV1> reviews = reviewRepository.findAllByCustomerIdAndDeletedAtIsNull(customerId);
+    // 주문건 리뷰 버전 (리뷰가 없으면 null)
+    @Transactional(readOnly = true)
+    public ReviewVersion getOrderReviewVersion(String userId, UUID orderId) {
+        return toReviewVersion("o", reviewRepository.findVersionByOrderIdAndCustomerId(orderId, userId));
+    }
 
-        return reviews.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    // 사용자 리뷰 버전 (삭제된 리뷰 포함 행 수 + 마지막 변경 시각)
+    @Transactional(readOnly = true)
+    public ReviewVersion getCustomerReviewVersion(String customerId) {
+        return toReviewVersion("c", reviewRepository.findVersionByCustomerId(customerId));
     }
 
-    //리뷰 생성
-    public ResReviewDtoV1 createReview(String customerId, UUID storeId, UUID orderId, ReqCreateReviewDtoV1 createReviewDto) {
-        // 기존 작성한 리뷰가 있는지 확인
-        ReviewEntityV1 review = reviewRepository.findByOrderIdAndCustomerIdAndDeletedAtIsNull(orderId, customerId);
-        if (review != null) {
-            throw new ReviewException("이미 등록된 리뷰입니다.");
+    // 사용자 아이디로 리뷰 페이지 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public ResReviewPageDtoV1 getReviewByCustomerId(String customerId, ReviewSortType sort, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        List<ReviewView> reviews = reviewRepository.findCustomerPage(customerId, sort, ReviewCursor.decode(cursor, sort), pageSize + 1);
+        reviewMetrics.recordCustomerRows(reviews.size());
+        return toPage(reviews, sort, pageSize);
+    }
+
+    // 리뷰 내용 검색 (관련도 높은순 커서 페이징, storeId 가 null 이면 전체 가게)
+    @Transactional(readOnly = true)
+    public ResReviewPageDtoV1 searchReviews(String query, UUID storeId, String cursor, int size) {
+        ReviewSearchQuery searchQuery = ReviewSearchQuery.parse(query);
+        int pageSize = normalizePageSize(size);
+        List<ReviewSearchHit> hits = reviewRepository.findSearchPage(searchQuery, storeId, ReviewSearchCursor.decode(cursor), pageSize + 1);
+        reviewMetrics.recordSearchRows(hits.size());
+
+        boolean hasNext = hits.size() > pageSize;
+        List<ReviewSearchHit> content = hasNext ? hits.subList(0, pageSize) : hits;
+
+        ResReviewPageDtoV1 page = new ResReviewPageDtoV1();
+        page.setReviews(content.stream().map(hit -> convertToResponse(hit.review())).toList());
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            ReviewSearchHit last = content.get(content.size() - 1);
+            page.setNextCursor(new ReviewSearchCursor(last.rank(), last.review().createdAt(), last.review().reviewId()).encode());
         }
+        return page;
+    }
+
+    // 리뷰 내보내기 - 작성 순서 키셋 청크마다 짧은 조회 트랜잭션으로 읽어 바로 NDJSON 으로 기록, 기록한 행 수 반환
+    // 응답을 쓰는 동안(느린 클라이언트)에는 트랜잭션과 커넥션을 잡지 않고, 메모리는 청크 크기만큼만 사용
+    // 청크마다 따로 읽으므로 내보내는 도중 바뀐 리뷰는 읽는 시점의 내용으로 기록됨 (단일 스냅숏 아님)
+    // 호출한 쪽에서 out 을 닫음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportReviews(ReviewExportFilter filter, OutputStream out) {
+        long written = 0;
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            ReviewView last = null;
+            while (true) {
+                ReviewView after = last;
+                List<ReviewView> chunk = readOnlyTransaction().execute(status ->
+                        reviewRepository.findExportChunk(filter, after, exportChunkSize));
+                for (ReviewView review : chunk) {
+                    writer.write(convertToResponse(review));
+                }
+                written += chunk.size();
+                if (chunk.size() < exportChunkSize) {
+                    break;
+                }
+                last = chunk.get(chunk.size() - 1);
+            }
+            // 마지막 줄도 개행으로 끝나도록 (NDJSON)
+            writer.flush();
+            if (written > 0) {
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("리뷰 내보내기 중 응답 기록 실패", e);
+        }
+        return written;
+    }
+
+    //리뷰 생성 - 주문 확인(주문 서비스 호출)은 트랜잭션 밖에서 먼저 수행하여 DB 커넥션을 붙잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResReviewDtoV1 createReview(String customerId, UUID storeId, UUID orderId, ReqCreateReviewDtoV1 createReviewDto) {
+        orderVerificationService.verify(customerId, storeId, orderId);
+        return new TransactionTemplate(transactionManager).execute(status ->
+                insertReview(customerId, storeId, orderId, createReviewDto));
+    }
+
+    private ResReviewDtoV1 insertReview(String customerId, UUID storeId, UUID orderId, ReqCreateReviewDtoV1 createReviewDto) {
         ReviewEntityV1 reviewEntity = new ReviewEntityV1();
 
         reviewEntity.setCustomerId(customerId);
@@ -91,17 +348,215 @@ public class ReviewService {
         reviewEntity.setContent(createReviewDto.getContent());
         reviewEntity.setCreatedAt(LocalDateTime.now());
 
-        ReviewEntityV1 savedReviewEntity = reviewRepository.save(reviewEntity);
+        // 중복 리뷰는 (order_id, customer_id) 부분 유니크 인덱스로 검사 (조회 후 저장 사이의 경쟁 상태 방지)
+        ReviewEntityV1 savedReviewEntity;
+        try {
+            savedReviewEntity = reviewRepository.saveAndFlush(reviewEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateReview(e)) {
+                reviewMetrics.duplicateRejected();
+                throw new ReviewException("이미 등록된 리뷰입니다.");
+            }
+            throw e;
+        }
+        storeRatingSummaryService.apply(storeId, StoreRatingDelta.ofCreated(savedReviewEntity.getRating(), savedReviewEntity.getContent()));
+        storeReviewCache.evictStore(storeId);
+        outboxEventWriter.append(storeId.toString(), new ReviewCreated(savedReviewEntity));
         return  convertToResponse(savedReviewEntity);
     }
 
+    //리뷰 일괄 등록 (이관/장애 복구 재처리용) - 요청 전체를 한 번에 중복 검사 후 JDBC 배치 INSERT
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResBulkCreateReviewDtoV1 bulkCreateReviews(ReqBulkCreateReviewDtoV1 bulkCreateReviewDto) {
+        List<ReqBulkCreateReviewDtoV1.Item> items = bulkCreateReviewDto.getReviews();
+        if (items == null || items.isEmpty()) {
+            throw new ReviewException("등록할 리뷰가 없습니다.");
+        }
+        if (items.size() > bulkMaxItems) {
+            throw new ReviewException("한 번에 등록할 수 있는 리뷰는 최대 " + bulkMaxItems + "건입니다.");
+        }
+
+        // 주문 확인은 트랜잭션 밖에서 요청 전체를 묶어 조회
+        Set<UUID> orderIds = new HashSet<>();
+        for (ReqBulkCreateReviewDtoV1.Item item : items) {
+            if (item != null && item.getOrderId() != null) {
+                orderIds.add(item.getOrderId());
+            }
+        }
+        OrderLookup orders = orderVerificationService.checkAll(orderIds);
+
+        TransactionTemplate bulkTransaction = new TransactionTemplate(transactionManager);
+        createPartitionsFor(items, bulkTransaction);
+        ResBulkCreateReviewDtoV1 response;
+        try {
+            response = bulkTransaction.execute(status -> insertReviews(items, orders));
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateReview(e)) {
+                throw e;
+            }
+            // 중복 검사 이후 다른 요청이 같은 주문 리뷰를 먼저 등록한 경우 한 번 더 시도 (다시 검사하면 DUPLICATE 로 분류)
+            response = bulkTransaction.execute(status -> insertReviews(items, orders));
+        }
+        reviewMetrics.bulkDuplicatesRejected(response.getDuplicated());
+        return response;
+    }
+
+    // 원본 작성 시각이 있는 정상 항목(이관 데이터)의 달 중 파티션이 없는 달만 생성
+    // 파티션 생성은 p_review 전체를 ACCESS EXCLUSIVE 로 잠그므로 달마다 짧은 별도 트랜잭션으로 만들고,
+    // 새로 만들 달이 max-new-partitions 를 넘으면 아무것도 만들지 않고 요청을 거절합니다.
+    private void createPartitionsFor(List<ReqBulkCreateReviewDtoV1.Item> items, TransactionTemplate transaction) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<LocalDate> months = new TreeSet<>();
+        for (ReqBulkCreateReviewDtoV1.Item item : items) {
+            if (item != null && item.getCreatedAt() != null && validateBulkItem(item, now) == null) {
+                months.add(item.getCreatedAt().toLocalDate().withDayOfMonth(1));
+            }
+        }
+        if (months.isEmpty()) {
+            return;
+        }
+        Set<String> partitions = new HashSet<>(reviewRepository.findPartitionNames());
+        List<LocalDate> missing = months.stream()
+                .filter(month -> !partitions.contains("p_review_" + month.format(PARTITION_SUFFIX)))
+                .toList();
+        if (missing.size() > bulkMaxNewPartitions) {
+            throw new ReviewException("한 번에 새로 만들 수 있는 월별 파티션은 최대 " + bulkMaxNewPartitions
+                    + "개입니다. (요청: " + missing.size() + "개) createdAt 의 달이 적도록 나눠서 요청해 주세요.");
+        }
+        for (LocalDate month : missing) {
+            transaction.executeWithoutResult(status -> reviewRepository.createMonthlyPartitions(month, month.plusMonths(1)));
+        }
+    }
+
+    // 항목 검증 + 주문 확인 + 중복 검사(조회 1회) 후 등록 가능한 리뷰만 배치 INSERT, 요청 순서대로 항목별 결과 반환
+    private ResBulkCreateReviewDtoV1 insertReviews(List<ReqBulkCreateReviewDtoV1.Item> items, OrderLookup orders) {
+        Set<UUID> orderIds = new HashSet<>();
+        for (ReqBulkCreateReviewDtoV1.Item item : items) {
+            if (item != null && item.getOrderId() != null) {
+                orderIds.add(item.getOrderId());
+            }
+        }
+        // 이미 등록된 리뷰 키 + 이 요청에서 등록할 리뷰 키 (같은 요청 안의 중복도 걸러냄)
+        Set<OrderReviewKey> registered = new HashSet<>();
+        for (ReviewKeyView key : reviewRepository.findLiveKeysByOrderIds(orderIds)) {
+            registered.add(new OrderReviewKey(key.getOrderId(), key.getCustomerId()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ResBulkCreateReviewDtoV1.Result> results = new ArrayList<>(items.size());
+        List<ResBulkCreateReviewDtoV1.Result> createdResults = new ArrayList<>();
+        List<ReviewEntityV1> reviewEntities = new ArrayList<>();
+        int duplicated = 0;
+        int invalid = 0;
+        int ineligible = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            ReqBulkCreateReviewDtoV1.Item item = items.get(i);
+            ResBulkCreateReviewDtoV1.Result result = new ResBulkCreateReviewDtoV1.Result();
+            result.setIndex(i);
+            results.add(result);
+
+            String invalidReason = validateBulkItem(item, now);
+            if (invalidReason != null) {
+                result.setStatus(ResBulkCreateReviewDtoV1.Status.INVALID);
+                result.setMessage(invalidReason);
+                invalid++;
+                continue;
+            }
+            result.setOrderId(item.getOrderId());
+            result.setCustomerId(item.getCustomerId());
+            OrderEligibility eligibility = orderVerificationService.eligibility(orders, item.getCustomerId(), item.getStoreId(), item.getOrderId());
+            if (eligibility != OrderEligibility.ELIGIBLE) {
+                result.setStatus(ResBulkCreateReviewDtoV1.Status.INELIGIBLE);
+                result.setMessage(eligibility.getMessage());
+                ineligible++;
+                continue;
+            }
+            if (!registered.add(new OrderReviewKey(item.getOrderId(), item.getCustomerId()))) {
+                result.setStatus(ResBulkCreateReviewDtoV1.Status.DUPLICATE);
+                result.setMessage("이미 등록된 리뷰입니다.");
+                duplicated++;
+                continue;
+            }
+
+            ReviewEntityV1 reviewEntity = new ReviewEntityV1();
+            reviewEntity.setCustomerId(item.getCustomerId());
+            reviewEntity.setOrderId(item.getOrderId());
+            reviewEntity.setStoreId(item.getStoreId());
+            reviewEntity.setRating(item.getRating());
+            reviewEntity.setContent(item.getContent());
+            reviewEntity.setCreatedAt(item.getCreatedAt() == null ? now : item.getCreatedAt());
+            reviewEntities.add(reviewEntity);
+
+            result.setStatus(ResBulkCreateReviewDtoV1.Status.CREATED);
+            createdResults.add(result);
+        }
+
+        // reviewId 는 persist 시점에 애플리케이션에서 생성(GenerationType.UUID)되므로 행마다 조회하지 않고
+        // hibernate.jdbc.batch_size 단위로 묶어 INSERT
+        reviewRepository.saveAllAndFlush(reviewEntities);
+        for (int i = 0; i < reviewEntities.size(); i++) {
+            createdResults.get(i).setReviewId(reviewEntities.get(i).getReviewId());
+        }
+
+        // 가게 아이디 순서로 집계 행을 잠가 교착 방지 (applyDeleted 와 같은 순서)
+        Map<UUID, StoreRatingDelta> deltas = new TreeMap<>();
+        for (ReviewEntityV1 reviewEntity : reviewEntities) {
+            deltas.merge(reviewEntity.getStoreId(),
+                    StoreRatingDelta.ofCreated(reviewEntity.getRating(), reviewEntity.getContent()), StoreRatingDelta::plus);
+        }
+        deltas.forEach((storeId, delta) -> {
+            storeRatingSummaryService.apply(storeId, delta);
+            storeReviewCache.evictStore(storeId);
+        });
+        for (ReviewEntityV1 reviewEntity : reviewEntities) {
+            outboxEventWriter.append(reviewEntity.getStoreId().toString(), new ReviewCreated(reviewEntity));
+        }
+
+        ResBulkCreateReviewDtoV1 response = new ResBulkCreateReviewDtoV1();
+        response.setRequested(items.size());
+        response.setCreated(reviewEntities.size());
+        response.setDuplicated(duplicated);
+        response.setInvalid(invalid);
+        response.setIneligible(ineligible);
+        response.setResults(results);
+        return response;
+    }
+
+    // 일괄 등록 항목 검증 (오류 메시지, 정상이면 null)
+    private String validateBulkItem(ReqBulkCreateReviewDtoV1.Item item, LocalDateTime now) {
+        if (item == null) {
+            return "리뷰 정보가 없습니다.";
+        }
+        if (item.getCustomerId() == null || item.getCustomerId().isBlank()) {
+            return "customerId는 필수입니다";
+        }
+        if (item.getStoreId() == null) {
+            return "storeId는 필수입니다";
+        }
+        if (item.getOrderId() == null) {
+            return "orderId는 필수입니다";
+        }
+        if (item.getRating() == null || item.getRating() < 1 || item.getRating() > 5) {
+            return "rating은 1점 이상 5점 이하여야 합니다";
+        }
+        if (item.getContent() != null && item.getContent().length() > MAX_CONTENT_LENGTH) {
+            return "리뷰 내용은 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다";
+        }
+        if (item.getCreatedAt() != null
+                && (item.getCreatedAt().isBefore(bulkMinCreatedAt.atStartOfDay()) || item.getCreatedAt().isAfter(now))) {
+            return "createdAt은 " + bulkMinCreatedAt + " 이후, 현재 시각 이전이어야 합니다";
+        }
+        return null;
+    }
+
     //사용자 아이디에 따른 리뷰 수정
     public ResReviewDtoV1 updateReview(String customerId, UUID reviewId, ReqUpdateReviewDtoV1 updateReviewDto) {
         ReviewEntityV1 reviewEntity = reviewRepository.findByReviewIdAndDeletedAtIsNull(reviewId);
+        logger.debug("리뷰 수정 요청 - reviewId: {}, customerId: {}", reviewId, customerId);
 
-        System.out.println("==============================================");
-        System.out.println("reviewEntity ====> " + reviewEntity);
-        System.out.println("==============================================");
+        Short oldRating = reviewEntity.getRating();
+        String oldContent = reviewEntity.getContent();
 
         reviewEntity.setUpdatedAt(LocalDateTime.now());
         reviewEntity.setUpdatedBy(customerId);
@@ -117,47 +572,157 @@ public class ReviewService {
         }
 
         ReviewEntityV1 savedReviewEntity = reviewRepository.save(reviewEntity);
-        System.out.println("==============================================");
-        System.out.println("savedReviewEntity ====> " + savedReviewEntity);
-        System.out.println("==============================================");
+        storeRatingSummaryService.apply(savedReviewEntity.getStoreId(), StoreRatingDelta.ofUpdated(
+                oldRating, oldContent, savedReviewEntity.getRating(), savedReviewEntity.getContent()));
+        storeReviewCache.evictStore(savedReviewEntity.getStoreId());
+        outboxEventWriter.append(savedReviewEntity.getStoreId().toString(), new ReviewUpdated(savedReviewEntity));
+        logger.debug("리뷰 수정 완료 - reviewId: {}, storeId: {}, rating: {} -> {}",
+                reviewId, savedReviewEntity.getStoreId(), oldRating, savedReviewEntity.getRating());
         return convertToResponse(savedReviewEntity);
     }
 
-    //사용자 아이디에 따른 리뷰 삭제
+    //사용자 아이디에 따른 리뷰 삭제 (해당 리뷰 한 행만 갱신)
     public void deleteReview(String customerId, UUID reviewId) {
-        List<ReviewEntityV1> reviews = reviewRepository.findAllByCustomerIdAndDeletedAtIsNull(customerId);
-        for (ReviewEntityV1 reviewEntity : reviews) {
-            if(reviewEntity.getReviewId().equals(reviewId)) {
-                reviewEntity.setDeletedAt(LocalDateTime.now());
-                reviewEntity.setDeletedBy(customerId);
-                reviewRepository.save(reviewEntity);
-                break;
+        LocalDateTime deletedAt = LocalDateTime.now();
+        List<DeletedReviewView> deleted = reviewRepository.softDeleteByReviewIdAndCustomerId(
+                reviewId, customerId, customerId, deletedAt);
+        applyDeleted(deleted, customerId, deletedAt);
+    }
+
+    //사용자 아이디에 따른 전체 리뷰 삭제 (청크 단위 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteAllReviewsByCustomerId(String customerId) {
+        return purgeInChunks(customerId, (deletedAt, limit) -> reviewRepository.softDeleteChunkByCustomerId(
+                customerId, customerId, deletedAt, limit));
+    }
+
+    //가게 아이디에 따른 전체 리뷰 삭제 (청크 단위 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteAllReviewsByStoreId(UUID storeId) {
+        return purgeInChunks(STORE_DELETED_BY, (deletedAt, limit) -> reviewRepository.softDeleteChunkByStoreId(
+                storeId, STORE_DELETED_BY, deletedAt, limit));
+    }
+
+    // 정책 이벤트 배치의 삭제 대상 soft delete - 대상 종류별로 배치 전체를 한 문장씩 청크 단위 트랜잭션으로 처리
+    // 청크는 (created_at DESC, review_id DESC) 순서로 잠그므로 다른 삭제와 교착되지 않고, 이미 삭제된 리뷰는 건너뛰므로
+    // 재시도해도 같은 결과입니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int purgeReviews(ReviewPurgeTargets targets) {
+        int deleted = 0;
+        if (!targets.storeIds().isEmpty()) {
+            UUID[] storeIds = targets.storeIds().toArray(UUID[]::new);
+            deleted += purgeInChunks(STORE_DELETED_BY, (deletedAt, limit) -> reviewRepository.softDeleteChunkByStoreIds(
+                    storeIds, STORE_DELETED_BY, deletedAt, limit));
+        }
+        if (!targets.customerIds().isEmpty()) {
+            String[] customerIds = targets.customerIds().toArray(String[]::new);
+            deleted += purgeInChunks(USER_DELETED_BY, (deletedAt, limit) -> reviewRepository.softDeleteChunkByCustomerIds(
+                    customerIds, USER_DELETED_BY, deletedAt, limit));
+        }
+        if (!targets.orderIds().isEmpty()) {
+            deleted += purgeInChunks(ORDER_CANCELLED_BY, (deletedAt, limit) -> reviewRepository.softDeleteChunkByOrderIds(
+                    targets.orderIds(), ORDER_CANCELLED_BY, deletedAt, limit));
+        }
+        return deleted;
+    }
+
+    // 청크마다 별도 트랜잭션으로 soft delete + 평점 집계 보정 (행 잠금 시간을 청크 크기로 제한)
+    private int purgeInChunks(String deletedBy, BiFunction<LocalDateTime, Integer, List<DeletedReviewView>> deleteChunk) {
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int total = 0;
+        while (true) {
+            Integer deletedCount = chunkTransaction.execute(status -> {
+                LocalDateTime deletedAt = LocalDateTime.now();
+                return applyDeleted(deleteChunk.apply(deletedAt, purgeChunkSize), deletedBy, deletedAt);
+            });
+            int count = deletedCount == null ? 0 : deletedCount;
+            total += count;
+            if (count < purgeChunkSize) {
+                return total;
             }
         }
     }
 
-    //사용자 아이디에 따른 전체 리뷰 삭제
-    public void deleteAllReviewsByCustomerId(String customerId) {
-        List<ReviewEntityV1> reviews = reviewRepository.findAllByCustomerIdAndDeletedAtIsNull(customerId);
-        for (ReviewEntityV1 reviewEntity : reviews) {
-            reviewEntity.setDeletedAt(LocalDateTime.now());
-            reviewEntity.setDeletedBy(customerId);
-            reviewRepository.save(reviewEntity);
+    // 삭제된 리뷰만큼 가게 평점 집계 차감 + 가게 캐시 무효화 + 삭제 이벤트 기록, 삭제 건수 반환
+    private int applyDeleted(List<DeletedReviewView> deleted, String deletedBy, LocalDateTime deletedAt) {
+        // 가게 아이디 순서로 집계 행을 잠가 동시에 여러 가게를 삭제하는 트랜잭션끼리 교착되지 않도록 함
+        Map<UUID, StoreRatingDelta> deltas = new TreeMap<>();
+        for (DeletedReviewView review : deleted) {
+            deltas.merge(review.getStoreId(), StoreRatingDelta.ofDeleted(review.getRating(), review.getHasContent()), StoreRatingDelta::plus);
+        }
+        deltas.forEach((storeId, delta) -> {
+            storeRatingSummaryService.apply(storeId, delta);
+            storeReviewCache.evictStore(storeId);
+        });
+        // 이벤트는 가게 평점 집계 행을 잠근 뒤에 기록 (OutboxEventWriter 참고)
+        for (DeletedReviewView review : deleted) {
+            outboxEventWriter.append(review.getStoreId().toString(), ReviewDeleted.of(review, deletedBy, deletedAt));
         }
+        return deleted.size();
+    }
+
+    // 주문당 리뷰 1건 유니크 인덱스 위반 여부
+    private boolean isDuplicateReview(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cve
+                && DUPLICATE_REVIEW_CONSTRAINT.equals(cve.getConstraintName());
+    }
+
+    private record OrderReviewKey(UUID orderId, String customerId) {
     }
 
-    //가게 아이디에 따른 전체 리뷰 삭제
-    public void deleteAllReviewsByStoreId(UUID storeId) {
-        List<ReviewEntityV1> reviews = reviewRepository.findAllByStoreIdAndDeletedAtIsNull(storeId);
-        for (ReviewEntityV1 reviewEntity : reviews) {
-            reviewEntity.setDeletedAt(LocalDateTime.now());
-            reviewEntity.setDeletedBy("store is deleted");
-            reviewRepository.save(reviewEntity);
+    private ReviewVersion toReviewVersion(String prefix, ReviewVersionView view) {
+        if (view == null || view.getLastModifiedAt() == null) {
+            return null;
         }
+        LocalDateTime lastModifiedAt = view.getLastModifiedAt();
+        // 같은 밀리초 안의 변경도 구분되도록 마이크로초 단위까지 태그에 포함
+        long epochMicros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModifiedAt);
+        return new ReviewVersion(prefix + view.getRowCount() + "-" + epochMicros, lastModifiedAt);
     }
 
-    // 받아 온 리뷰 데이터 반환
-    private ResReviewDtoV1 convertToResponse(ReviewEntityV1 reviewEntity) {
+    // 조회 전용 트랜잭션 (Hibernate 세션 flush 모드 MANUAL + read-only)
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    // 가게 조회 트랜잭션 - 이 인스턴스에서 sticky-window 안에 쓰기가 커밋된 가게는 복제본 대신 primary 에서 읽음
+    // (쓰기 직후 캐시에 복제본의 오래된 페이지가 적재되지 않도록)
+    private <T> T readStore(UUID storeId, TransactionCallback<T> action) {
+        if (readYourWritesTracker.isStoreSticky(storeId)) {
+            return readYourWritesTracker.onPrimary(() -> readOnlyTransaction().execute(action));
+        }
+        return readOnlyTransaction().execute(action);
+    }
+
+    // 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE)
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // pageSize + 1 건을 조회하여 다음 페이지 존재 여부와 다음 커서를 계산
+    private ResReviewPageDtoV1 toPage(List<ReviewView> reviews, ReviewSortType sort, int pageSize) {
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewView> content = hasNext ? reviews.subList(0, pageSize) : reviews;
+
+        ResReviewPageDtoV1 page = new ResReviewPageDtoV1();
+        page.setReviews(content.stream().map(ReviewService::convertToResponse).toList());
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            ReviewView last = content.get(content.size() - 1);
+            page.setNextCursor(ReviewCursor.of(sort, last.rating(), last.createdAt(), last.reviewId()).encode());
+        }
+        return page;
+    }
+
+    // 받아 온 리뷰 데이터 반환 (src/jmh 벤치마크에서 사용하므로 package-private)
+    static ResReviewDtoV1 convertToResponse(ReviewEntityV1 reviewEntity) {
         ResReviewDtoV1 response = new ResReviewDtoV1();
         response.setReviewId(reviewEntity.getReviewId());
         response.setOrderId(reviewEntity.getOrderId());
@@ -170,4 +735,19 @@ public class ReviewService {
         response.setUpdatedBy(reviewEntity.getUpdatedBy());
         return response;
     }
+
+    // 조회 projection 을 응답으로 변환
+    static ResReviewDtoV1 convertToResponse(ReviewView review) {
+        ResReviewDtoV1 response = new ResReviewDtoV1();
+        response.setReviewId(review.reviewId());
+        response.setOrderId(review.orderId());
+        response.setCustomerId(review.customerId());
+        response.setStoreId(review.storeId());
+        response.setRating(review.rating());
+        response.setContent(review.content());
+        response.setCreatedAt(review.createdAt());
+        response.setUpdatedAt(review.updatedAt());
+        response.setUpdatedBy(review.updatedBy());
+        return response;
+    }
 }
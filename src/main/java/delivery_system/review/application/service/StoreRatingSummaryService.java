@@ -0,0 +1,94 @@
+package delivery_system.review.application.service;
+
+import delivery_system.config.ReadYourWritesTracker;
+import delivery_system.event.outbox.OutboxEventWriter;
+import delivery_system.review.application.cache.StoreReviewVersions;
+import delivery_system.review.domain.StoreRatingDelta;
+import delivery_system.review.domain.entity.StoreRatingSummaryEntityV1;
+import delivery_system.review.domain.event.StoreRatingChanged;
+import delivery_system.review.domain.repository.StoreRatingSummaryRepositoryV1;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 가게 평점 집계 관리
+ * ReviewService 의 쓰기 트랜잭션에 참여하여 증감분을 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StoreRatingSummaryService {
+
+    private final StoreRatingSummaryRepositoryV1 summaryRepository;
+    private final OutboxEventWriter outboxEventWriter;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final StoreReviewVersions storeReviewVersions;
+
+    // 가게 평점 집계 조회 (집계가 없으면 빈 값)
+    @Transactional(readOnly = true)
+    public Optional<StoreRatingSummaryEntityV1> getSummary(UUID storeId) {
+        return summaryRepository.findById(storeId);
+    }
+
+    // 증감분 반영 및 버전 증가 - 호출한 쓰기 트랜잭션 안에서만 사용
+    // 평점/내용 변화가 없는 수정도 응답 내용(updatedAt)이 바뀌므로 버전은 항상 올림
+    // 커밋 후 sticky-window 동안 이 가게의 조회는 primary 에서 읽고, 로컬 가게 리뷰 버전은 커밋 후 다시 읽음
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID storeId, StoreRatingDelta delta) {
+        if (delta == null) {
+            delta = StoreRatingDelta.ZERO;
+        }
+        summaryRepository.applyDelta(
+                storeId,
+                delta.ratingSum(),
+                delta.reviewCount(),
+                delta.contentCount(),
+                delta.rating1Count(),
+                delta.rating2Count(),
+                delta.rating3Count(),
+                delta.rating4Count(),
+                delta.rating5Count(),
+                LocalDateTime.now()
+        );
+        readYourWritesTracker.recordStoreWrite(storeId);
+        storeReviewVersions.evict(storeId);
+    }
+
+    // p_review 원본으로부터 한 가게의 집계를 재계산
+    public void rebuild(UUID storeId) {
+        LocalDateTime now = LocalDateTime.now();
+        summaryRepository.insertIfAbsent(storeId, now);
+        // 행을 먼저 잠가 재계산 도중 커밋되는 증감분이 덮어써지지 않도록 함
+        summaryRepository.findForUpdate(storeId);
+        summaryRepository.rebuild(storeId, now);
+        readYourWritesTracker.recordStoreWrite(storeId);
+        storeReviewVersions.evict(storeId);
+    }
+
+    // 발행하지 않은 변경이 있는 가게마다 현재 집계로 StoreRatingChanged 를 아웃박스에 기록, 기록한 가게 수 반환
+    // 마지막 발행 이후 여러 번 바뀐 가게도 한 건만 기록됩니다.
+    public int publishChanges(int limit) {
+        List<StoreRatingSummaryEntityV1> changed = summaryRepository.findUnpublishedForUpdate(limit);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        for (StoreRatingSummaryEntityV1 summary : changed) {
+            outboxEventWriter.append(summary.getStoreId().toString(), new StoreRatingChanged(summary));
+        }
+        summaryRepository.markPublished(changed.stream().map(StoreRatingSummaryEntityV1::getStoreId).toList());
+        return changed.size();
+    }
+
+    // 재계산 대상 가게 목록 조회
+    @Transactional(readOnly = true)
+    public List<UUID> findStoreIdsAfter(UUID afterStoreId, int limit) {
+        return summaryRepository.findStoreIdsAfter(afterStoreId, limit);
+    }
+}
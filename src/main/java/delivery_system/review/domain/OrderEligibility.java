@@ -0,0 +1,22 @@
+package delivery_system.review.domain;
+
+/**
+ * 주문 서비스 기준 리뷰 작성 가능 여부
+ */
+public enum OrderEligibility {
+    ELIGIBLE(null),                                          // 리뷰 작성 가능
+    NOT_FOUND("주문을 찾을 수 없습니다."),                      // 주문 서비스에 없는 주문
+    CUSTOMER_MISMATCH("본인 주문에만 리뷰를 작성할 수 있습니다."),    // 다른 사용자의 주문
+    STORE_MISMATCH("주문한 가게와 일치하지 않습니다."),              // 다른 가게의 주문
+    NOT_DELIVERED("배달이 완료된 주문에만 리뷰를 작성할 수 있습니다."); // 배달 완료 전 / 취소된 주문
+
+    private final String message;
+
+    OrderEligibility(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
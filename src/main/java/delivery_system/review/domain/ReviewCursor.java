@@ -0,0 +1,53 @@
+package delivery_system.review.domain;
+
+import delivery_system.common.exception.review.ReviewException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리뷰 목록 커서 (마지막으로 내려준 리뷰의 정렬 키)
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명 문자열로 전달됩니다.
+ *
+ * 사용 예:
+ * String next = ReviewCursor.of(sort, lastReview).encode();
+ * ReviewCursor cursor = ReviewCursor.decode(next, sort);
+ */
+public record ReviewCursor(ReviewSortType sort, Short rating, LocalDateTime createdAt, UUID reviewId) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public static ReviewCursor of(ReviewSortType sort, Short rating, LocalDateTime createdAt, UUID reviewId) {
+        return new ReviewCursor(sort, rating, createdAt, reviewId);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, sort.name(), String.valueOf(rating), createdAt.toString(), reviewId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어있으면 첫 페이지 (null 반환)
+    public static ReviewCursor decode(String cursor, ReviewSortType expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor");
+            }
+            ReviewSortType sort = ReviewSortType.valueOf(parts[1]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("sort mismatch");
+            }
+            return new ReviewCursor(sort, Short.valueOf(parts[2]), LocalDateTime.parse(parts[3]), UUID.fromString(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReviewException("유효하지 않은 커서입니다.");
+        }
+    }
+}
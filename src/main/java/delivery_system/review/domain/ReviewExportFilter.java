@@ -0,0 +1,44 @@
+package delivery_system.review.domain;
+
+import delivery_system.common.exception.review.ReviewException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리뷰 내보내기 조건 (가게 또는 사용자 중 하나 + 작성일 범위)
+ *
+ * 사용 예:
+ * ReviewExportFilter.of(storeId, null, from, to)
+ *
+ * @param createdFrom 작성 시각 하한 (포함)
+ * @param createdTo   작성 시각 상한 (미포함)
+ */
+public record ReviewExportFilter(UUID storeId, String customerId, LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    // 날짜를 지정하지 않았을 때의 범위 (timestamp 컬럼과 비교 가능한 값)
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    // from ~ to 는 날짜 단위 (양 끝 포함)
+    public static ReviewExportFilter of(UUID storeId, String customerId, LocalDate from, LocalDate to) {
+        boolean hasCustomer = customerId != null && !customerId.isBlank();
+        if ((storeId == null) == !hasCustomer) {
+            throw new ReviewException("storeId 또는 customerId 중 하나만 지정해야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ReviewException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        return new ReviewExportFilter(
+                storeId,
+                hasCustomer ? customerId : null,
+                from == null ? MIN_CREATED_AT : from.atStartOfDay(),
+                to == null ? MAX_CREATED_AT : to.plusDays(1).atStartOfDay());
+    }
+
+    // 내보내기 파일 이름 (확장자 제외)
+    public String fileName() {
+        return storeId != null ? "reviews-store-" + storeId : "reviews-customer-" + customerId;
+    }
+}
@@ -0,0 +1,28 @@
+package delivery_system.review.domain;
+
+import delivery_system.common.exception.review.ReviewException;
+
+/**
+ * 가게 리뷰 목록 필터 (별점 / 내용 있는 리뷰만)
+ *
+ * 사용 예:
+ * ReviewFilter.of(5, true)
+ * ReviewFilter.NONE
+ *
+ * @param rating      이 별점의 리뷰만 (null 이면 전체)
+ * @param withContent true 면 내용 있는 리뷰만 (p_review.has_content)
+ */
+public record ReviewFilter(Short rating, boolean withContent) {
+
+    public static final ReviewFilter NONE = new ReviewFilter(null, false);
+
+    public static ReviewFilter of(Integer rating, boolean withContent) {
+        if (rating != null && (rating < 1 || rating > 5)) {
+            throw new ReviewException("rating 필터는 1 ~ 5 사이여야 합니다.");
+        }
+        if (rating == null && !withContent) {
+            return NONE;
+        }
+        return new ReviewFilter(rating == null ? null : rating.shortValue(), withContent);
+    }
+}
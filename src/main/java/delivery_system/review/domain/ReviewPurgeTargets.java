@@ -0,0 +1,26 @@
+package delivery_system.review.domain;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 정책 이벤트 배치에서 모은 리뷰 삭제 대상 (대상 종류별로 중복 제거된 아이디)
+ *
+ * - storeIds    : 폐업(삭제)된 가게
+ * - customerIds : 탈퇴(삭제)한 사용자
+ * - orderIds    : 취소된 주문
+ */
+public record ReviewPurgeTargets(
+        Set<UUID> storeIds,
+        Set<String> customerIds,
+        Set<UUID> orderIds
+) {
+
+    public boolean isEmpty() {
+        return storeIds.isEmpty() && customerIds.isEmpty() && orderIds.isEmpty();
+    }
+
+    public int size() {
+        return storeIds.size() + customerIds.size() + orderIds.size();
+    }
+}
@@ -0,0 +1,42 @@
+package delivery_system.review.domain;
+
+import delivery_system.common.exception.review.ReviewException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리뷰 검색 커서 (마지막으로 내려준 검색 결과의 정렬 키: 관련도, 작성 시각, 리뷰 아이디)
+ * ReviewCursor 와 같이 Base64URL 로 인코딩된 불투명 문자열로 전달됩니다.
+ * 관련도(real)는 Float.toString 으로 기록하므로 디코딩해도 DB 값과 정확히 같습니다.
+ */
+public record ReviewSearchCursor(float rank, LocalDateTime createdAt, UUID reviewId) {
+
+    private static final String VERSION = "s1";
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, Float.toString(rank), createdAt.toString(), reviewId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어있으면 첫 페이지 (null 반환)
+    public static ReviewSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor");
+            }
+            return new ReviewSearchCursor(Float.parseFloat(parts[1]), LocalDateTime.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReviewException("유효하지 않은 커서입니다.");
+        }
+    }
+}
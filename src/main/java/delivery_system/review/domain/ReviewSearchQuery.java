@@ -0,0 +1,78 @@
+package delivery_system.review.domain;
+
+import delivery_system.common.exception.review.ReviewException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 내용 검색어 (검색어를 PostgreSQL to_tsquery 문자열로 변환)
+ *
+ * - 글자/숫자가 아닌 문자로 단어를 나누고, 모든 단어를 포함한 리뷰를 찾습니다. (AND)
+ * - search_vector 는 어절 단위로 색인되므로, 한글 단어는 끝의 조사/어미를 한 번 떼고 접두사로 검색합니다.
+ *   예) "배달이 빨랐어요" -> 배달:* & 빨랐:*  ("배달은 빨랐습니다" 와도 일치)
+ * - 한 글자 단어는 접두사 검색하면 너무 많은 어절과 일치하므로 어절 전체가 같을 때만 일치합니다.
+ * - 단어는 글자/숫자로만 이루어지므로 to_tsquery 연산자가 섞이지 않습니다.
+ *
+ * 사용 예:
+ * ReviewSearchQuery query = ReviewSearchQuery.parse("배달이 빨랐어요");
+ * query.tsQuery(); // "배달:* & 빨랐:*"
+ */
+public record ReviewSearchQuery(List<String> terms, String tsQuery) {
+
+    public static final int MAX_LENGTH = 100;
+    public static final int MAX_TERMS = 5;
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern HANGUL_WORD = Pattern.compile("[가-힣]+");
+
+    // 긴 것부터 비교, 떼고 남은 부분이 두 글자 이상일 때만 제거
+    private static final List<String> KOREAN_SUFFIXES = List.of(
+            "었어요", "았어요", "였어요", "습니다", "에서는",
+            "어요", "아요", "해요", "네요", "에요", "예요", "는데", "지만",
+            "에서", "으로", "까지", "부터", "처럼", "보다", "이랑",
+            "은", "는", "이", "가", "을", "를", "도", "만", "에", "의", "로", "와", "과", "랑");
+
+    public static ReviewSearchQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new ReviewException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_LENGTH) {
+            throw new ReviewException("검색어는 " + MAX_LENGTH + "자까지 입력할 수 있습니다.");
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : WORD_DELIMITER.split(query.strip())) {
+            if (!word.isEmpty()) {
+                terms.add(stripKoreanSuffix(word));
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new ReviewException("검색어에 글자나 숫자가 없습니다.");
+        }
+        if (terms.size() > MAX_TERMS) {
+            throw new ReviewException("검색어는 " + MAX_TERMS + "단어까지 입력할 수 있습니다.");
+        }
+
+        List<String> lexemes = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            lexemes.add(term.codePointCount(0, term.length()) > 1 ? term + ":*" : term);
+        }
+        return new ReviewSearchQuery(List.copyOf(terms), String.join(" & ", lexemes));
+    }
+
+    private static String stripKoreanSuffix(String word) {
+        if (!HANGUL_WORD.matcher(word).matches()) {
+            return word;
+        }
+        for (String suffix : KOREAN_SUFFIXES) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= 2) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+}
@@ -0,0 +1,11 @@
+package delivery_system.review.domain;
+
+/**
+ * 리뷰 목록 정렬 기준
+ * 모든 정렬은 (created_at, review_id) 를 동점 처리 키로 사용하여 커서 페이징이 가능합니다.
+ */
+public enum ReviewSortType {
+    NEWEST,        // 최신순
+    RATING_HIGH,   // 별점 높은순
+    RATING_LOW     // 별점 낮은순
+}
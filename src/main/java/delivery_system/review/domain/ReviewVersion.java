@@ -0,0 +1,12 @@
+package delivery_system.review.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 조회 결과의 버전 (HTTP 조건부 요청 검증용)
+ *
+ * @param tag            내용이 바뀌면 반드시 달라지는 값 (ETag 로 사용)
+ * @param lastModifiedAt 마지막 변경 시각 (알 수 없으면 null)
+ */
+public record ReviewVersion(String tag, LocalDateTime lastModifiedAt) {
+}
@@ -0,0 +1,89 @@
+package delivery_system.review.domain;
+
+/**
+ * 가게 평점 집계에 반영할 증감분
+ *
+ * 사용 예:
+ * StoreRatingDelta.ofCreated(rating, content)
+ * StoreRatingDelta.ofDeleted(rating, content)
+ * StoreRatingDelta.ofDeleted(rating, hasContent)
+ * StoreRatingDelta.ofUpdated(oldRating, oldContent, newRating, newContent)
+ */
+public record StoreRatingDelta(
+        long ratingSum,
+        long reviewCount,
+        long contentCount,
+        long rating1Count,
+        long rating2Count,
+        long rating3Count,
+        long rating4Count,
+        long rating5Count
+) {
+
+    public static final StoreRatingDelta ZERO = new StoreRatingDelta(0, 0, 0, 0, 0, 0, 0, 0);
+
+    public static StoreRatingDelta ofCreated(Short rating, String content) {
+        return ofCreated(rating, hasContent(content));
+    }
+
+    public static StoreRatingDelta ofCreated(Short rating, boolean hasContent) {
+        int r = rating == null ? 0 : rating;
+        return new StoreRatingDelta(
+                r,
+                1,
+                hasContent ? 1 : 0,
+                r == 1 ? 1 : 0,
+                r == 2 ? 1 : 0,
+                r == 3 ? 1 : 0,
+                r == 4 ? 1 : 0,
+                r == 5 ? 1 : 0
+        );
+    }
+
+    public static StoreRatingDelta ofDeleted(Short rating, String content) {
+        return ofCreated(rating, content).negate();
+    }
+
+    public static StoreRatingDelta ofDeleted(Short rating, boolean hasContent) {
+        return ofCreated(rating, hasContent).negate();
+    }
+
+    public static StoreRatingDelta ofUpdated(Short oldRating, String oldContent, Short newRating, String newContent) {
+        return ofCreated(newRating, newContent).plus(ofDeleted(oldRating, oldContent));
+    }
+
+    // p_review.has_content 생성 컬럼과 동일한 기준 (null 이 아니고 trim 후 비어있지 않음)
+    public static boolean hasContent(String content) {
+        return content != null && !content.trim().isEmpty();
+    }
+
+    public StoreRatingDelta plus(StoreRatingDelta other) {
+        return new StoreRatingDelta(
+                ratingSum + other.ratingSum,
+                reviewCount + other.reviewCount,
+                contentCount + other.contentCount,
+                rating1Count + other.rating1Count,
+                rating2Count + other.rating2Count,
+                rating3Count + other.rating3Count,
+                rating4Count + other.rating4Count,
+                rating5Count + other.rating5Count
+        );
+    }
+
+    public StoreRatingDelta negate() {
+        return new StoreRatingDelta(
+                -ratingSum,
+                -reviewCount,
+                -contentCount,
+                -rating1Count,
+                -rating2Count,
+                -rating3Count,
+                -rating4Count,
+                -rating5Count
+        );
+    }
+
+    public boolean isZero() {
+        return this.equals(ZERO);
+    }
+}
@@ -6,6 +6,14 @@ import lombok.Data;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * 리뷰 엔티티
+ * 조회 경로별 부분 인덱스(deleted_at IS NULL)와 주문당 리뷰 1건 유니크 제약(p_review_live_order)은
+ * JPA @Index 로 표현할 수 없어 db/migration 스크립트에서 관리합니다.
+ *
+ * p_review 는 created_at 기준 월별 파티션 테이블입니다. (V13, PK 는 (review_id, created_at))
+ * created_at 은 파티션 키이므로 등록 후 바꾸지 않습니다.
+ */
 @Entity
 @Table(name = "p_review")
 @Data
@@ -30,7 +38,11 @@ public class ReviewEntityV1 {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "created_at", nullable = false)
+    // DB 생성 컬럼 (content 를 trim 한 뒤 비어있지 않으면 true) - 조회 조건 전용, 저장 시 값 없음
+    @Column(name = "has_content", insertable = false, updatable = false)
+    private Boolean hasContent;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
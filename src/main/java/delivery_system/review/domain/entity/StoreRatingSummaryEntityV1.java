@@ -0,0 +1,70 @@
+package delivery_system.review.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가게별 평점 집계 (p_review 의 살아있는 리뷰 기준)
+ * 리뷰 생성/수정/삭제 시 같은 트랜잭션에서 증분 반영됩니다.
+ */
+@Entity
+@Table(name = "p_store_rating_summary")
+@Data
+public class StoreRatingSummaryEntityV1 {
+    @Id
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "content_count", nullable = false)
+    private long contentCount;
+
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 가게 리뷰가 생성/수정/삭제될 때마다 증가 (ETag)
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;
+
+    /**
+     * 소수점 첫째 자리까지 반올림한 평균 평점
+     * 기존 DecimalFormat("0.0").format(double) 과 같은 값 (double 평균의 이진 값을 HALF_EVEN 으로 반올림)
+     * 정확한 십진 나눗셈으로 바꾸면 4.35 처럼 double 로 4.3499... 인 평균이 기존과 달라집니다.
+     */
+    public double getRatingAvg() {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
+        return new BigDecimal((double) ratingSum / reviewCount)
+                .setScale(1, RoundingMode.HALF_EVEN)
+                .doubleValue();
+    }
+}
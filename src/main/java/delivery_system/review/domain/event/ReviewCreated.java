@@ -0,0 +1,32 @@
+package delivery_system.review.domain.event;
+
+import delivery_system.event.AbstractEvent;
+import delivery_system.review.domain.entity.ReviewEntityV1;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리뷰 등록 이벤트
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ReviewCreated extends AbstractEvent {
+    private UUID reviewId;
+    private UUID orderId;
+    private UUID storeId;
+    private String customerId;
+    private Short rating;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public ReviewCreated(ReviewEntityV1 aggregate) {
+        super(aggregate);
+    }
+}
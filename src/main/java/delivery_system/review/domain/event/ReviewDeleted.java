@@ -0,0 +1,40 @@
+package delivery_system.review.domain.event;
+
+import delivery_system.event.AbstractEvent;
+import delivery_system.review.domain.repository.DeletedReviewView;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리뷰 삭제 이벤트 (단건 삭제, 사용자/가게 전체 삭제 모두 리뷰 1건당 1개)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ReviewDeleted extends AbstractEvent {
+    private UUID reviewId;
+    private UUID orderId;
+    private UUID storeId;
+    private String customerId;
+    private Short rating;
+    private String deletedBy;
+    private LocalDateTime deletedAt;
+
+    public static ReviewDeleted of(DeletedReviewView deleted, String deletedBy, LocalDateTime deletedAt) {
+        ReviewDeleted event = new ReviewDeleted();
+        event.setReviewId(deleted.getReviewId());
+        event.setOrderId(deleted.getOrderId());
+        event.setStoreId(deleted.getStoreId());
+        event.setCustomerId(deleted.getCustomerId());
+        event.setRating(deleted.getRating());
+        event.setDeletedBy(deletedBy);
+        event.setDeletedAt(deletedAt);
+        return event;
+    }
+}
@@ -0,0 +1,37 @@
+package delivery_system.review.domain.event;
+
+import delivery_system.event.AbstractEvent;
+import delivery_system.review.domain.entity.StoreRatingSummaryEntityV1;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가게 평점 변경 이벤트 (발행 주기 안의 변경을 가게당 한 건으로 합친 현재 집계)
+ * version 은 가게별로 증가하므로 컨슈머는 받은 version 이 가진 것보다 작거나 같으면 무시하면 됩니다.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class StoreRatingChanged extends AbstractEvent {
+    private UUID storeId;
+    private double ratingAvg;
+    private long reviewCount;
+    private long contentCount;
+    private long rating1Count;
+    private long rating2Count;
+    private long rating3Count;
+    private long rating4Count;
+    private long rating5Count;
+    private long version;
+    private LocalDateTime lastModifiedAt;
+
+    public StoreRatingChanged(StoreRatingSummaryEntityV1 aggregate) {
+        super(aggregate);
+    }
+}
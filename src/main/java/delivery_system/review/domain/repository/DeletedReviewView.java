@@ -0,0 +1,16 @@
+package delivery_system.review.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * soft delete 된 리뷰 (UPDATE ... RETURNING 결과)
+ * 평점 집계 차감과 ReviewDeleted 이벤트 생성에 필요한 컬럼만 반환합니다.
+ */
+public interface DeletedReviewView {
+    UUID getReviewId();
+    UUID getOrderId();
+    UUID getStoreId();
+    String getCustomerId();
+    Short getRating();
+    boolean getHasContent();
+}
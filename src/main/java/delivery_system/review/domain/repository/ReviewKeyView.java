@@ -0,0 +1,11 @@
+package delivery_system.review.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 주문당 리뷰 1건 유니크 키 (order_id, customer_id)
+ */
+public interface ReviewKeyView {
+    UUID getOrderId();
+    String getCustomerId();
+}
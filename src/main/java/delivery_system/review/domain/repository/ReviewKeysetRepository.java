@@ -0,0 +1,26 @@
+package delivery_system.review.domain.repository;
+
+import delivery_system.review.domain.ReviewCursor;
+import delivery_system.review.domain.ReviewExportFilter;
+import delivery_system.review.domain.ReviewFilter;
+import delivery_system.review.domain.ReviewSortType;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 커서(keyset) 기반 리뷰 목록 조회
+ * OFFSET 을 사용하지 않으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+ * 결과는 엔티티가 아닌 ReviewView projection 입니다.
+ */
+public interface ReviewKeysetRepository {
+
+    // 가게의 리뷰 페이지 조회 (cursor 가 null 이면 첫 페이지)
+    List<ReviewView> findStorePage(UUID storeId, ReviewFilter filter, ReviewSortType sort, ReviewCursor cursor, int limit);
+
+    // 사용자의 리뷰 페이지 조회 (cursor 가 null 이면 첫 페이지)
+    List<ReviewView> findCustomerPage(String customerId, ReviewSortType sort, ReviewCursor cursor, int limit);
+
+    // 내보내기 청크 조회 - 작성 순서(created_at, review_id 오름차순)로 after 다음 리뷰부터 (after 가 null 이면 처음부터)
+    List<ReviewView> findExportChunk(ReviewExportFilter filter, ReviewView after, int limit);
+}
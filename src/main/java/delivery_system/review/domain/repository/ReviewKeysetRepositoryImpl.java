@@ -0,0 +1,120 @@
+package delivery_system.review.domain.repository;
+
+import delivery_system.review.domain.ReviewCursor;
+import delivery_system.review.domain.ReviewExportFilter;
+import delivery_system.review.domain.ReviewFilter;
+import delivery_system.review.domain.ReviewSortType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ReviewKeysetRepository 구현체
+ *
+ * 정렬별 조건 (동점은 created_at DESC, review_id DESC 로 처리, 모두 행 값 비교):
+ * - NEWEST      : (created_at, review_id) < (:createdAt, :reviewId) and created_at <= :createdAt
+ *                 행 값 비교는 인덱스 범위 조건으로 쓰이고, 중복된 created_at 조건은 월별 파티션(V13) 중
+ *                 커서 이후 달만 읽도록 파티션을 걸러냅니다. (행 값 비교만으로는 파티션이 걸러지지 않음)
+ * - RATING_HIGH : (rating, created_at, review_id) < (:rating, :createdAt, :reviewId)
+ * - RATING_LOW  : rating > :rating 또는 rating = :rating 이고 (created_at, review_id) < 커서 (정렬 방향이 섞여 있음)
+ *
+ * 가게 리뷰 필터:
+ * - rating      : rating = :filterRating (ix_p_review_store_rating_high 의 (store_id, rating) 접두사)
+ * - withContent : has_content = true (NEWEST 는 ix_p_review_store_content_created)
+ *
+ * 내보내기 청크 (작성 순서, ix_p_review_store_created / ix_p_review_customer_created):
+ * - (created_at, review_id) > 이전 청크의 마지막 행, created_at 하한도 마지막 행의 created_at 으로 올려 지난 파티션을 건너뜀
+ *
+ * 응답에 필요한 컬럼만 생성자 표현식으로 조회합니다. (deleted_at, deleted_by 제외)
+ */
+public class ReviewKeysetRepositoryImpl implements ReviewKeysetRepository {
+
+    private static final String SELECT_VIEW = "select new delivery_system.review.domain.repository.ReviewView("
+            + "r.reviewId, r.orderId, r.storeId, r.customerId, r.rating, r.content, r.createdAt, r.updatedBy, r.updatedAt)"
+            + " from ReviewEntityV1 r";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReviewView> findStorePage(UUID storeId, ReviewFilter filter, ReviewSortType sort, ReviewCursor cursor, int limit) {
+        return findPage("storeId", storeId, filter, sort, cursor, limit);
+    }
+
+    @Override
+    public List<ReviewView> findCustomerPage(String customerId, ReviewSortType sort, ReviewCursor cursor, int limit) {
+        return findPage("customerId", customerId, ReviewFilter.NONE, sort, cursor, limit);
+    }
+
+    @Override
+    public List<ReviewView> findExportChunk(ReviewExportFilter filter, ReviewView after, int limit) {
+        boolean byStore = filter.storeId() != null;
+        StringBuilder jpql = new StringBuilder()
+                .append(SELECT_VIEW).append(" where r.").append(byStore ? "storeId" : "customerId").append(" = :ownerId")
+                .append(" and r.deletedAt is null")
+                .append(" and r.createdAt >= :createdFrom and r.createdAt < :createdTo");
+        if (after != null) {
+            jpql.append(" and (r.createdAt, r.reviewId) > (:createdAt, :reviewId)");
+        }
+        jpql.append(" order by r.createdAt, r.reviewId");
+
+        TypedQuery<ReviewView> query = entityManager.createQuery(jpql.toString(), ReviewView.class)
+                .setParameter("ownerId", byStore ? filter.storeId() : filter.customerId())
+                .setParameter("createdFrom", after != null ? after.createdAt() : filter.createdFrom())
+                .setParameter("createdTo", filter.createdTo())
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt());
+            query.setParameter("reviewId", after.reviewId());
+        }
+        return query.getResultList();
+    }
+
+    private List<ReviewView> findPage(String ownerField, Object ownerId, ReviewFilter filter,
+                                      ReviewSortType sort, ReviewCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder()
+                .append(SELECT_VIEW).append(" where r.").append(ownerField).append(" = :ownerId")
+                .append(" and r.deletedAt is null");
+
+        if (filter.rating() != null) {
+            jpql.append(" and r.rating = :filterRating");
+        }
+        if (filter.withContent()) {
+            jpql.append(" and r.hasContent = true");
+        }
+
+        if (cursor != null) {
+            String afterCreated = "(r.createdAt, r.reviewId) < (:createdAt, :reviewId)";
+            switch (sort) {
+                case NEWEST -> jpql.append(" and ").append(afterCreated).append(" and r.createdAt <= :createdAt");
+                case RATING_HIGH -> jpql.append(" and (r.rating, r.createdAt, r.reviewId) < (:rating, :createdAt, :reviewId)");
+                case RATING_LOW -> jpql.append(" and (r.rating > :rating or (r.rating = :rating and ").append(afterCreated).append("))");
+            }
+        }
+
+        jpql.append(switch (sort) {
+            case NEWEST -> " order by r.createdAt desc, r.reviewId desc";
+            case RATING_HIGH -> " order by r.rating desc, r.createdAt desc, r.reviewId desc";
+            case RATING_LOW -> " order by r.rating asc, r.createdAt desc, r.reviewId desc";
+        });
+
+        TypedQuery<ReviewView> query = entityManager.createQuery(jpql.toString(), ReviewView.class)
+                .setParameter("ownerId", ownerId)
+                .setMaxResults(limit);
+
+        if (filter.rating() != null) {
+            query.setParameter("filterRating", filter.rating());
+        }
+        if (cursor != null) {
+            query.setParameter("createdAt", cursor.createdAt());
+            query.setParameter("reviewId", cursor.reviewId());
+            if (sort != ReviewSortType.NEWEST) {
+                query.setParameter("rating", cursor.rating());
+            }
+        }
+        return query.getResultList();
+    }
+}
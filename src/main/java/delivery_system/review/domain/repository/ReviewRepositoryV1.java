@@ -2,15 +2,283 @@ package delivery_system.review.domain.repository;
 
 import delivery_system.review.domain.entity.ReviewEntityV1;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ReviewRepositoryV1 extends JpaRepository<ReviewEntityV1, UUID> {
-    List<ReviewEntityV1> findAllByStoreIdAndDeletedAtIsNull(UUID storeId);
-    ReviewEntityV1 findByOrderIdAndCustomerIdAndDeletedAtIsNull(UUID orderId, String customerId);
-    List<ReviewEntityV1> findAllByCustomerIdAndDeletedAtIsNull(String customerId);
+public interface ReviewRepositoryV1 extends JpaRepository<ReviewEntityV1, UUID>, ReviewKeysetRepository, ReviewSearchRepository {
+
     ReviewEntityV1 findByReviewIdAndDeletedAtIsNull(UUID reviewId);
+
+    // 주문건 리뷰 조회 (조회 전용 projection)
+    @Query("""
+            select new delivery_system.review.domain.repository.ReviewView(
+                r.reviewId, r.orderId, r.storeId, r.customerId, r.rating, r.content, r.createdAt, r.updatedBy, r.updatedAt)
+            from ReviewEntityV1 r
+            where r.orderId = :orderId and r.customerId = :customerId and r.deletedAt is null
+            """)
+    ReviewView findViewByOrderIdAndCustomerId(UUID orderId, String customerId);
+
+    // 일괄 등록 중복 검사 - 주문들에 이미 등록된 살아있는 리뷰 키를 한 번에 조회
+    @Query("""
+            select r.orderId as orderId, r.customerId as customerId
+            from ReviewEntityV1 r
+            where r.orderId in :orderIds and r.deletedAt is null
+            """)
+    List<ReviewKeyView> findLiveKeysByOrderIds(Collection<UUID> orderIds);
+
+    // ================= 조건부 요청용 버전 조회 =================
+
+    // 사용자 리뷰 목록의 버전 (삭제된 행 포함, ix_p_review_customer_version index-only scan)
+    @Query(value = """
+            SELECT COUNT(*) AS "rowCount",
+                   MAX(GREATEST(created_at, COALESCE(updated_at, created_at), COALESCE(deleted_at, created_at))) AS "lastModifiedAt"
+            FROM p_review
+            WHERE customer_id = :customerId
+            """, nativeQuery = true)
+    ReviewVersionView findVersionByCustomerId(String customerId);
+
+    // 주문건 리뷰의 버전 (살아있는 리뷰가 없으면 null)
+    @Query(value = """
+            SELECT 1 AS "rowCount",
+                   GREATEST(created_at, COALESCE(updated_at, created_at)) AS "lastModifiedAt"
+            FROM p_review
+            WHERE order_id = :orderId AND customer_id = :customerId AND deleted_at IS NULL
+            """, nativeQuery = true)
+    ReviewVersionView findVersionByOrderIdAndCustomerId(UUID orderId, String customerId);
+
+    // ================= 집합 기반 soft delete =================
+    // UPDATE ... RETURNING 으로 삭제된 리뷰를 반환하므로 평점 집계 보정과 이벤트 기록을 같은 트랜잭션에서 할 수 있습니다.
+    // 갱신은 PK (review_id, created_at) 로 조인해서 대상 행의 파티션만 찾아가도록 합니다.
+    // 여러 행을 지우는 문장은 모두 (created_at DESC, review_id DESC) 순서로 잠가서 동시에 실행되는 삭제끼리
+    // 교착되지 않도록 합니다. (PK 전체라 순서가 하나로 정해지고, 가게/사용자 조회 인덱스 순서와 같아 정렬 없이 읽음)
+
+    // 사용자의 리뷰 1건 soft delete (PK 로 한 행만 갱신)
+    @Query(value = """
+            WITH target AS (
+                SELECT review_id, created_at FROM p_review
+                WHERE review_id = :reviewId AND customer_id = :customerId AND deleted_at IS NULL
+                FOR UPDATE
+            ), deleted AS (
+                UPDATE p_review r
+                SET deleted_at = :deletedAt, deleted_by = :deletedBy
+                FROM target t
+                WHERE r.review_id = t.review_id AND r.created_at = t.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating,
+                          r.has_content
+            )
+            SELECT d.review_id AS "reviewId",
+                   d.order_id AS "orderId",
+                   d.store_id AS "storeId",
+                   d.customer_id AS "customerId",
+                   d.rating AS "rating",
+                   d.has_content AS "hasContent"
+            FROM deleted d
+            """, nativeQuery = true)
+    List<DeletedReviewView> softDeleteByReviewIdAndCustomerId(UUID reviewId, String customerId, String deletedBy, LocalDateTime deletedAt);
+
+    // 사용자의 리뷰를 최대 limit 건 soft delete
+    @Query(value = """
+            WITH target AS (
+                SELECT review_id, created_at FROM p_review
+                WHERE customer_id = :customerId AND deleted_at IS NULL
+                ORDER BY created_at DESC, review_id DESC
+                LIMIT :limit
+                FOR UPDATE
+            ), deleted AS (
+                UPDATE p_review r
+                SET deleted_at = :deletedAt, deleted_by = :deletedBy
+                FROM target t
+                WHERE r.review_id = t.review_id AND r.created_at = t.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating,
+                          r.has_content
+            )
+            SELECT d.review_id AS "reviewId",
+                   d.order_id AS "orderId",
+                   d.store_id AS "storeId",
+                   d.customer_id AS "customerId",
+                   d.rating AS "rating",
+                   d.has_content AS "hasContent"
+            FROM deleted d
+            """, nativeQuery = true)
+    List<DeletedReviewView> softDeleteChunkByCustomerId(String customerId, String deletedBy, LocalDateTime deletedAt, int limit);
+
+    // 가게의 리뷰를 최대 limit 건 soft delete
+    @Query(value = """
+            WITH target AS (
+                SELECT review_id, created_at FROM p_review
+                WHERE store_id = :storeId AND deleted_at IS NULL
+                ORDER BY created_at DESC, review_id DESC
+                LIMIT :limit
+                FOR UPDATE
+            ), deleted AS (
+                UPDATE p_review r
+                SET deleted_at = :deletedAt, deleted_by = :deletedBy
+                FROM target t
+                WHERE r.review_id = t.review_id AND r.created_at = t.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating,
+                          r.has_content
+            )
+            SELECT d.review_id AS "reviewId",
+                   d.order_id AS "orderId",
+                   d.store_id AS "storeId",
+                   d.customer_id AS "customerId",
+                   d.rating AS "rating",
+                   d.has_content AS "hasContent"
+            FROM deleted d
+            """, nativeQuery = true)
+    List<DeletedReviewView> softDeleteChunkByStoreId(UUID storeId, String deletedBy, LocalDateTime deletedAt, int limit);
+
+    // 가게들의 리뷰를 최대 limit 건 soft delete (정책 이벤트 배치의 가게 삭제)
+    // 가게마다 인덱스 순서로 최대 limit 건만 읽고 합쳐서 잠그므로 큰 가게가 섞여도 청크마다 limit x 가게 수 행만 읽음
+    @Query(value = """
+            WITH candidate AS (
+                SELECT c.review_id, c.created_at
+                FROM unnest(CAST(:storeIds AS uuid[])) AS s(store_id)
+                CROSS JOIN LATERAL (
+                    SELECT review_id, created_at FROM p_review
+                    WHERE store_id = s.store_id AND deleted_at IS NULL
+                    ORDER BY created_at DESC, review_id DESC
+                    LIMIT :limit
+                ) c
+                ORDER BY c.created_at DESC, c.review_id DESC
+                LIMIT :limit
+            ), target AS (
+                SELECT r.review_id, r.created_at FROM p_review r
+                JOIN candidate c ON r.review_id = c.review_id AND r.created_at = c.created_at
+                WHERE r.deleted_at IS NULL
+                ORDER BY r.created_at DESC, r.review_id DESC
+                FOR UPDATE OF r
+            ), deleted AS (
+                UPDATE p_review r
+                SET deleted_at = :deletedAt, deleted_by = :deletedBy
+                FROM target t
+                WHERE r.review_id = t.review_id AND r.created_at = t.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating,
+                          r.has_content
+            )
+            SELECT d.review_id AS "reviewId",
+                   d.order_id AS "orderId",
+                   d.store_id AS "storeId",
+                   d.customer_id AS "customerId",
+                   d.rating AS "rating",
+                   d.has_content AS "hasContent"
+            FROM deleted d
+            """, nativeQuery = true)
+    List<DeletedReviewView> softDeleteChunkByStoreIds(UUID[] storeIds, String deletedBy, LocalDateTime deletedAt, int limit);
+
+    // 사용자들의 리뷰를 최대 limit 건 soft delete (정책 이벤트 배치의 탈퇴, softDeleteChunkByStoreIds 와 같은 방식)
+    @Query(value = """
+            WITH candidate AS (
+                SELECT c.review_id, c.created_at
+                FROM unnest(CAST(:customerIds AS varchar[])) AS u(customer_id)
+                CROSS JOIN LATERAL (
+                    SELECT review_id, created_at FROM p_review
+                    WHERE customer_id = u.customer_id AND deleted_at IS NULL
+                    ORDER BY created_at DESC, review_id DESC
+                    LIMIT :limit
+                ) c
+                ORDER BY c.created_at DESC, c.review_id DESC
+                LIMIT :limit
+            ), target AS (
+                SELECT r.review_id, r.created_at FROM p_review r
+                JOIN candidate c ON r.review_id = c.review_id AND r.created_at = c.created_at
+                WHERE r.deleted_at IS NULL
+                ORDER BY r.created_at DESC, r.review_id DESC
+                FOR UPDATE OF r
+            ), deleted AS (
+                UPDATE p_review r
+                SET deleted_at = :deletedAt, deleted_by = :deletedBy
+                FROM target t
+                WHERE r.review_id = t.review_id AND r.created_at = t.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating,
+                          r.has_content
+            )
+            SELECT d.review_id AS "reviewId",
+                   d.order_id AS "orderId",
+                   d.store_id AS "storeId",
+                   d.customer_id AS "customerId",
+                   d.rating AS "rating",
+                   d.has_content AS "hasContent"
+            FROM deleted d
+            """, nativeQuery = true)
+    List<DeletedReviewView> softDeleteChunkByCustomerIds(String[] customerIds, String deletedBy, LocalDateTime deletedAt, int limit);
+
+    // 주문들의 리뷰를 최대 limit 건 soft delete (정책 이벤트 배치의 주문 취소)
+    @Query(value = """
+            WITH target AS (
+                SELECT review_id, created_at FROM p_review
+                WHERE order_id IN (:orderIds) AND deleted_at IS NULL
+                ORDER BY created_at DESC, review_id DESC
+                LIMIT :limit
+                FOR UPDATE
+            ), deleted AS (
+                UPDATE p_review r
+                SET deleted_at = :deletedAt, deleted_by = :deletedBy
+                FROM target t
+                WHERE r.review_id = t.review_id AND r.created_at = t.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating,
+                          r.has_content
+            )
+            SELECT d.review_id AS "reviewId",
+                   d.order_id AS "orderId",
+                   d.store_id AS "storeId",
+                   d.customer_id AS "customerId",
+                   d.rating AS "rating",
+                   d.has_content AS "hasContent"
+            FROM deleted d
+            """, nativeQuery = true)
+    List<DeletedReviewView> softDeleteChunkByOrderIds(Collection<UUID> orderIds, String deletedBy, LocalDateTime deletedAt, int limit);
+
+    // ================= 파티션 / 보관 =================
+
+    // 월별 파티션 미리 생성 (이미 있는 달은 건너뜀), 새로 만든 파티션 수 반환
+    @Query(value = "SELECT p_review_create_partitions(CAST(:fromMonth AS date), CAST(:toMonth AS date))", nativeQuery = true)
+    int createMonthlyPartitions(LocalDate fromMonth, LocalDate toMonth);
+
+    // 이미 만들어진 월별 파티션 이름 (p_review_YYYYMM, 잠금 없이 카탈로그만 조회)
+    @Query(value = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST('p_review' AS regclass)
+            """, nativeQuery = true)
+    List<String> findPartitionNames();
+
+    // 보관 기간이 지난 삭제 리뷰를 최대 limit 건 p_review_archive 로 이동 (옮긴 건수 반환, 대상이 없으면 null)
+    // 삭제가 오래된 순서로 옮기고, 다른 인스턴스가 잠근 행은 건너뜁니다. (ix_p_review_deleted_at)
+    @Query(value = """
+            WITH batch AS (
+                SELECT review_id, created_at FROM p_review
+                WHERE deleted_at < LOCALTIMESTAMP - make_interval(secs => :retentionSeconds)
+                ORDER BY deleted_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM p_review r
+                USING batch b
+                WHERE r.review_id = b.review_id AND r.created_at = b.created_at
+                RETURNING r.review_id, r.order_id, r.store_id, r.customer_id, r.rating, r.content,
+                          r.created_at, r.updated_at, r.updated_by, r.deleted_at, r.deleted_by
+            ), archived AS (
+                INSERT INTO p_review_archive (archived_at, row_count, deleted_from, deleted_to, reviews)
+                SELECT LOCALTIMESTAMP, count(*), min(m.deleted_at), max(m.deleted_at),
+                       string_agg(CAST(json_build_object(
+                           'reviewId', m.review_id, 'orderId', m.order_id, 'storeId', m.store_id,
+                           'customerId', m.customer_id, 'rating', m.rating, 'content', m.content,
+                           'createdAt', m.created_at, 'updatedAt', m.updated_at, 'updatedBy', m.updated_by,
+                           'deletedAt', m.deleted_at, 'deletedBy', m.deleted_by) AS text), E'\\n' ORDER BY m.deleted_at)
+                FROM moved m
+                HAVING count(*) > 0
+                RETURNING row_count
+            )
+            SELECT row_count FROM archived
+            """, nativeQuery = true)
+    Integer archiveDeletedBefore(double retentionSeconds, int limit);
 }
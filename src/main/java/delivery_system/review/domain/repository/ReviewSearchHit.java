@@ -0,0 +1,8 @@
+package delivery_system.review.domain.repository;
+
+/**
+ * 리뷰 검색 결과 한 건 (응답 projection + 관련도)
+ * 관련도는 다음 페이지 커서를 만들 때만 사용하고 응답에는 포함하지 않습니다.
+ */
+public record ReviewSearchHit(ReviewView review, float rank) {
+}
@@ -0,0 +1,17 @@
+package delivery_system.review.domain.repository;
+
+import delivery_system.review.domain.ReviewSearchCursor;
+import delivery_system.review.domain.ReviewSearchQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리뷰 내용 검색 (search_vector @@ to_tsquery, GIN 인덱스 ix_p_review_search_vector)
+ * 관련도 높은순 커서 페이징이며, 결과는 엔티티가 아닌 ReviewView projection 입니다.
+ */
+public interface ReviewSearchRepository {
+
+    // storeId 가 null 이면 전체 가게 검색, cursor 가 null 이면 첫 페이지
+    List<ReviewSearchHit> findSearchPage(ReviewSearchQuery query, UUID storeId, ReviewSearchCursor cursor, int limit);
+}
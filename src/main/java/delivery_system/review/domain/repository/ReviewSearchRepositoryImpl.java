@@ -0,0 +1,80 @@
+package delivery_system.review.domain.repository;
+
+import delivery_system.review.domain.ReviewSearchCursor;
+import delivery_system.review.domain.ReviewSearchQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ReviewSearchRepository 구현체
+ *
+ * - 일치 조건: search_vector @@ to_tsquery('review_korean', :query)
+ *   (deleted_at IS NULL AND has_content 는 부분 인덱스 ix_p_review_search_vector 를 쓰기 위한 조건)
+ * - 관련도: ts_rank_cd(search_vector, query, 1) - 검색어가 가깝게 모여 있을수록 높고, 긴 리뷰는 로그 비율로 낮춤
+ * - 정렬/커서: (rank DESC, created_at DESC, review_id DESC), 다음 페이지는 (rank, created_at, review_id) < 커서
+ *
+ * 관련도 정렬은 일치하는 행을 모두 읽어야 하므로 가게 내 검색이 아니면 흔한 단어일수록 느려집니다.
+ * (결과 크기와 응답 시간은 README 의 검색 벤치마크 참고)
+ */
+public class ReviewSearchRepositoryImpl implements ReviewSearchRepository {
+
+    private static final String RANK = "ts_rank_cd(r.search_vector, q.query, 1)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReviewSearchHit> findSearchPage(ReviewSearchQuery query, UUID storeId, ReviewSearchCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT r.review_id, r.order_id, r.store_id, r.customer_id, r.rating, r.content,")
+                .append(" r.created_at, r.updated_by, r.updated_at, ").append(RANK).append(" AS rank")
+                .append(" FROM p_review r, to_tsquery('review_korean', :query) AS q(query)")
+                .append(" WHERE r.search_vector @@ q.query AND r.deleted_at IS NULL AND r.has_content");
+
+        if (storeId != null) {
+            sql.append(" AND r.store_id = :storeId");
+        }
+        if (cursor != null) {
+            sql.append(" AND (").append(RANK).append(" < CAST(:rank AS real) OR (").append(RANK).append(" = CAST(:rank AS real)")
+                    .append(" AND (r.created_at < :createdAt OR (r.created_at = :createdAt AND r.review_id < :reviewId))))");
+        }
+        sql.append(" ORDER BY rank DESC, r.created_at DESC, r.review_id DESC LIMIT :limit");
+
+        NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addScalar("review_id", UUID.class)
+                .addScalar("order_id", UUID.class)
+                .addScalar("store_id", UUID.class)
+                .addScalar("customer_id", String.class)
+                .addScalar("rating", Short.class)
+                .addScalar("content", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_by", String.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("rank", Float.class);
+
+        nativeQuery.setParameter("query", query.tsQuery());
+        nativeQuery.setParameter("limit", limit);
+        if (storeId != null) {
+            nativeQuery.setParameter("storeId", storeId);
+        }
+        if (cursor != null) {
+            nativeQuery.setParameter("rank", cursor.rank());
+            nativeQuery.setParameter("createdAt", cursor.createdAt());
+            nativeQuery.setParameter("reviewId", cursor.reviewId());
+        }
+
+        return nativeQuery.getResultList().stream()
+                .map(row -> new ReviewSearchHit(
+                        new ReviewView((UUID) row[0], (UUID) row[1], (UUID) row[2], (String) row[3], (Short) row[4],
+                                (String) row[5], (LocalDateTime) row[6], (String) row[7], (LocalDateTime) row[8]),
+                        (Float) row[9]))
+                .toList();
+    }
+}
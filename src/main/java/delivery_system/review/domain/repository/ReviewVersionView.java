@@ -0,0 +1,11 @@
+package delivery_system.review.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 행들의 변경 여부 판단용 요약 (행 수 + 마지막 변경 시각)
+ */
+public interface ReviewVersionView {
+    long getRowCount();
+    LocalDateTime getLastModifiedAt();
+}
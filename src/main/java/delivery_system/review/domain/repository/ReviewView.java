@@ -0,0 +1,21 @@
+package delivery_system.review.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 조회 응답에 필요한 리뷰 컬럼만 담은 projection
+ * 엔티티가 아니므로 영속성 컨텍스트에 등록되지 않고 스냅샷/dirty checking 대상도 아닙니다.
+ */
+public record ReviewView(
+        UUID reviewId,
+        UUID orderId,
+        UUID storeId,
+        String customerId,
+        Short rating,
+        String content,
+        LocalDateTime createdAt,
+        String updatedBy,
+        LocalDateTime updatedAt
+) {
+}
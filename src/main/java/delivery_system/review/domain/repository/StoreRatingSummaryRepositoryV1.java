@@ -0,0 +1,124 @@
+package delivery_system.review.domain.repository;
+
+import delivery_system.review.domain.entity.StoreRatingSummaryEntityV1;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StoreRatingSummaryRepositoryV1 extends JpaRepository<StoreRatingSummaryEntityV1, UUID> {
+
+    // 증감분을 원자적으로 반영하고 버전 증가 (행이 없으면 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_store_rating_summary
+                (store_id, rating_sum, review_count, content_count,
+                 rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, updated_at,
+                 version, last_modified_at)
+            VALUES (:storeId, :ratingSum, :reviewCount, :contentCount,
+                    :rating1Count, :rating2Count, :rating3Count, :rating4Count, :rating5Count, :now,
+                    1, :now)
+            ON CONFLICT (store_id) DO UPDATE SET
+                rating_sum    = p_store_rating_summary.rating_sum    + EXCLUDED.rating_sum,
+                review_count  = p_store_rating_summary.review_count  + EXCLUDED.review_count,
+                content_count = p_store_rating_summary.content_count + EXCLUDED.content_count,
+                rating1_count = p_store_rating_summary.rating1_count + EXCLUDED.rating1_count,
+                rating2_count = p_store_rating_summary.rating2_count + EXCLUDED.rating2_count,
+                rating3_count = p_store_rating_summary.rating3_count + EXCLUDED.rating3_count,
+                rating4_count = p_store_rating_summary.rating4_count + EXCLUDED.rating4_count,
+                rating5_count = p_store_rating_summary.rating5_count + EXCLUDED.rating5_count,
+                updated_at    = EXCLUDED.updated_at,
+                version       = p_store_rating_summary.version + 1,
+                last_modified_at = EXCLUDED.last_modified_at
+            """, nativeQuery = true)
+    int applyDelta(UUID storeId, long ratingSum, long reviewCount, long contentCount,
+                   long rating1Count, long rating2Count, long rating3Count, long rating4Count, long rating5Count,
+                   LocalDateTime now);
+
+    // 재계산 전 집계 행 보장
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_store_rating_summary
+                (store_id, rating_sum, review_count, content_count,
+                 rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, updated_at)
+            VALUES (:storeId, 0, 0, 0, 0, 0, 0, 0, 0, :now)
+            ON CONFLICT (store_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(UUID storeId, LocalDateTime now);
+
+    // 재계산 중 동시 증감 반영을 막기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from StoreRatingSummaryEntityV1 s where s.storeId = :storeId")
+    StoreRatingSummaryEntityV1 findForUpdate(UUID storeId);
+
+    // p_review 원본으로부터 한 가게의 집계를 다시 계산 (값이 달라진 경우에만 버전 증가)
+    @Modifying
+    @Query(value = """
+            UPDATE p_store_rating_summary s SET
+                version       = s.version + CASE WHEN (s.rating_sum, s.review_count, s.content_count, s.rating1_count, s.rating2_count, s.rating3_count, s.rating4_count, s.rating5_count)
+                                        IS DISTINCT FROM (a.rating_sum, a.review_count, a.content_count, a.rating1_count, a.rating2_count, a.rating3_count, a.rating4_count, a.rating5_count) THEN 1 ELSE 0 END,
+                last_modified_at = CASE WHEN (s.rating_sum, s.review_count, s.content_count, s.rating1_count, s.rating2_count, s.rating3_count, s.rating4_count, s.rating5_count)
+                                        IS DISTINCT FROM (a.rating_sum, a.review_count, a.content_count, a.rating1_count, a.rating2_count, a.rating3_count, a.rating4_count, a.rating5_count) THEN :now ELSE s.last_modified_at END,
+                rating_sum    = a.rating_sum,
+                review_count  = a.review_count,
+                content_count = a.content_count,
+                rating1_count = a.rating1_count,
+                rating2_count = a.rating2_count,
+                rating3_count = a.rating3_count,
+                rating4_count = a.rating4_count,
+                rating5_count = a.rating5_count,
+                updated_at    = :now
+            FROM (
+                SELECT COALESCE(SUM(r.rating), 0) AS rating_sum,
+                       COUNT(*) AS review_count,
+                       COUNT(*) FILTER (WHERE r.has_content) AS content_count,
+                       COUNT(*) FILTER (WHERE r.rating = 1) AS rating1_count,
+                       COUNT(*) FILTER (WHERE r.rating = 2) AS rating2_count,
+                       COUNT(*) FILTER (WHERE r.rating = 3) AS rating3_count,
+                       COUNT(*) FILTER (WHERE r.rating = 4) AS rating4_count,
+                       COUNT(*) FILTER (WHERE r.rating = 5) AS rating5_count
+                FROM p_review r
+                WHERE r.store_id = :storeId AND r.deleted_at IS NULL
+            ) a
+            WHERE s.store_id = :storeId
+            """, nativeQuery = true)
+    int rebuild(UUID storeId, LocalDateTime now);
+
+    // 재계산 대상 가게 목록 (storeId 순서 키셋 페이징)
+    @Query(value = """
+            SELECT store_id FROM (
+                SELECT DISTINCT store_id FROM p_review WHERE store_id > :afterStoreId
+                UNION
+                SELECT store_id FROM p_store_rating_summary WHERE store_id > :afterStoreId
+            ) t
+            ORDER BY store_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findStoreIdsAfter(UUID afterStoreId, int limit);
+
+    // 발행하지 않은 변경이 있는 가게를 잠금 (쓰기 중인 가게는 건너뛰고 다음 주기에 발행, 여러 인스턴스가 나눠 처리)
+    @Query(value = """
+            SELECT * FROM p_store_rating_summary
+            WHERE version <> published_version
+            ORDER BY last_modified_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoreRatingSummaryEntityV1> findUnpublishedForUpdate(int limit);
+
+    // 잠근 가게들의 현재 버전까지 발행 완료로 기록
+    @Modifying
+    @Query(value = """
+            UPDATE p_store_rating_summary
+            SET published_version = version
+            WHERE store_id IN (:storeIds)
+            """, nativeQuery = true)
+    int markPublished(List<UUID> storeIds);
+}
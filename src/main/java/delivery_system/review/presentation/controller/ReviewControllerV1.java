@@ -1,32 +1,117 @@
 package delivery_system.review.presentation.controller;
 
 import delivery_system.common.response.BaseResponse;
+import delivery_system.common.response.PreSerializedResponseWriter;
+import delivery_system.review.application.cache.SerializedStoreReviewCache.SerializedStoreReviews;
+import delivery_system.review.application.cache.VersionedStoreReviews;
 import delivery_system.review.application.service.ReviewService;
+import delivery_system.review.domain.ReviewExportFilter;
+import delivery_system.review.domain.ReviewFilter;
+import delivery_system.review.domain.ReviewSortType;
+import delivery_system.review.domain.ReviewVersion;
+import delivery_system.review.presentation.dto.request.ReqBulkCreateReviewDtoV1;
 import delivery_system.review.presentation.dto.request.ReqCreateReviewDtoV1;
 import delivery_system.review.presentation.dto.request.ReqUpdateReviewDtoV1;
+import delivery_system.review.presentation.dto.response.ResBulkCreateReviewDtoV1;
 import delivery_system.review.presentation.dto.response.ResReviewDtoV1;
+import delivery_system.review.presentation.dto.response.ResReviewPageDtoV1;
+import delivery_system.review.presentation.dto.response.ResStoreRatingDistributionDtoV1;
 import delivery_system.review.presentation.dto.response.ResStoreReviewDtoV1;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/reviews")
 public class ReviewControllerV1 {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final String STORE_REVIEWS_MESSAGE = "가게 리뷰 조회에 성공하였습니다.";
+
     private final ReviewService reviewService;
+    private final PreSerializedResponseWriter preSerializedResponseWriter;
 
-    // 가게 아이디로 리뷰 조회
+    // 가게 아이디로 리뷰 조회 (커서 페이징, rating / withContent 로 필터)
     @GetMapping("/store/{storeId}")
     public ResponseEntity<BaseResponse<ResStoreReviewDtoV1>> reviewsByStoreId(
-            @PathVariable UUID storeId) {
+            @PathVariable UUID storeId,
+            @RequestParam(defaultValue = "NEWEST") ReviewSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) Integer rating,
+            @RequestParam(defaultValue = "false") boolean withContent,
+            WebRequest webRequest,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+
+        ReviewFilter filter = ReviewFilter.of(rating, withContent);
+
+        // 변경이 없으면 리뷰를 읽기 전에 304 응답
+        ReviewVersion version = reviewService.getStoreReviewVersion(storeId);
+        if (isNotModified(webRequest, version)) {
+            return null;
+        }
+
+        // 직렬화된 바이트 캐시 모드: 응답 앞부분만 새로 쓰고 result 바이트를 그대로 기록
+        if (reviewService.isSerializedStoreReviewsEnabled()) {
+            SerializedStoreReviews serialized = reviewService.getSerializedReviewsByStoreId(storeId, version, filter, sort, cursor, size);
+            applyLoadedVersion(servletResponse, version, serialized.version());
+            preSerializedResponseWriter.writeSuccess(servletRequest, servletResponse, STORE_REVIEWS_MESSAGE, serialized.result());
+            return null;
+        }
 
-        ResStoreReviewDtoV1 reviews = reviewService.getReviewByStoreId(storeId);
-        BaseResponse<ResStoreReviewDtoV1> response = BaseResponse.onSuccess("가게 리뷰 조회에 성공하였습니다.", reviews);
+        VersionedStoreReviews reviews = reviewService.getReviewByStoreId(storeId, version, filter, sort, cursor, size);
+        applyLoadedVersion(servletResponse, version, reviews.version());
+        BaseResponse<ResStoreReviewDtoV1> response = BaseResponse.onSuccess(STORE_REVIEWS_MESSAGE, reviews.reviews());
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 가게 별점 분포 조회 (평점 집계 기반)
+    @GetMapping("/store/{storeId}/ratings")
+    public ResponseEntity<BaseResponse<ResStoreRatingDistributionDtoV1>> ratingDistribution(
+            @PathVariable UUID storeId,
+            WebRequest webRequest) {
+
+        if (isNotModified(webRequest, reviewService.getStoreReviewVersion(storeId))) {
+            return null;
+        }
+
+        ResStoreRatingDistributionDtoV1 distribution = reviewService.getStoreRatingDistribution(storeId);
+        BaseResponse<ResStoreRatingDistributionDtoV1> response = BaseResponse.onSuccess("가게 별점 분포 조회에 성공하였습니다.", distribution);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 가게 리뷰 내용 검색 (관련도 높은순 커서 페이징)
+    @GetMapping("/store/{storeId}/search")
+    public ResponseEntity<BaseResponse<ResReviewPageDtoV1>> searchStoreReviews(
+            @PathVariable UUID storeId,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int size) {
+
+        ResReviewPageDtoV1 reviews = reviewService.searchReviews(q, storeId, cursor, size);
+        BaseResponse<ResReviewPageDtoV1> response = BaseResponse.onSuccess("가게 리뷰 검색에 성공하였습니다.", reviews);
 
         return ResponseEntity.ok(response);
     }
@@ -34,7 +119,12 @@ public class ReviewControllerV1 {
     // 주문건 리뷰 조회
     @GetMapping("/{userId}/order/{orderId}")
     public ResponseEntity<BaseResponse<ResReviewDtoV1>> reviewsByOrderId(
-            @PathVariable String userId, @PathVariable UUID orderId) {
+            @PathVariable String userId, @PathVariable UUID orderId,
+            WebRequest webRequest) {
+
+        if (isNotModified(webRequest, reviewService.getOrderReviewVersion(userId, orderId))) {
+            return null;
+        }
 
         ResReviewDtoV1 reviews = reviewService.getReviewByOrderId(userId, orderId);
         BaseResponse<ResReviewDtoV1> response = BaseResponse.onSuccess("주문 리뷰 조회에 성공하였습니다.", reviews);
@@ -42,17 +132,75 @@ public class ReviewControllerV1 {
         return ResponseEntity.ok(response);
     }
 
-    // 사용자 아이디로 리뷰 조회
+    // 사용자 아이디로 리뷰 조회 (커서 페이징)
     @GetMapping("/user/{customerId}")
-    public ResponseEntity<BaseResponse<List<ResReviewDtoV1>>> reviewsByCustomerId(
-            @PathVariable String customerId) {
+    public ResponseEntity<BaseResponse<ResReviewPageDtoV1>> reviewsByCustomerId(
+            @PathVariable String customerId,
+            @RequestParam(defaultValue = "NEWEST") ReviewSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
 
-        List<ResReviewDtoV1> reviews = reviewService.getReviewByCustomerId(customerId);
-        BaseResponse<List<ResReviewDtoV1>> response = BaseResponse.onSuccess("사용자 리뷰 조회에 성공하였습니다.", reviews);
+        if (isNotModified(webRequest, reviewService.getCustomerReviewVersion(customerId))) {
+            return null;
+        }
+
+        ResReviewPageDtoV1 reviews = reviewService.getReviewByCustomerId(customerId, sort, cursor, size);
+        BaseResponse<ResReviewPageDtoV1> response = BaseResponse.onSuccess("사용자 리뷰 조회에 성공하였습니다.", reviews);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 리뷰 내용 검색 (전체 가게 또는 storeId 로 한정, 관리자 전용)
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+    public ResponseEntity<BaseResponse<ResReviewPageDtoV1>> searchReviews(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int size) {
+
+        ResReviewPageDtoV1 reviews = reviewService.searchReviews(q, storeId, cursor, size);
+        BaseResponse<ResReviewPageDtoV1> response = BaseResponse.onSuccess("리뷰 검색에 성공하였습니다.", reviews);
 
         return ResponseEntity.ok(response);
     }
 
+    // 리뷰 내보내기 (NDJSON 스트리밍, gzip=true 면 .ndjson.gz 파일로 내려줌, 관리자 전용)
+    // gzip 은 전송 인코딩(Content-Encoding)이 아니라 파일 형식이므로 클라이언트가 풀지 않고 그대로 저장합니다.
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        // 조건 오류는 응답을 쓰기 전에 ReviewException 으로 처리
+        ReviewExportFilter filter = ReviewExportFilter.of(storeId, customerId, from, to);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, EXPORT_BUFFER_SIZE);
+                reviewService.exportReviews(filter, gzipOut);
+                gzipOut.finish();
+            } else {
+                BufferedOutputStream bufferedOut = new BufferedOutputStream(out, EXPORT_BUFFER_SIZE);
+                reviewService.exportReviews(filter, bufferedOut);
+                bufferedOut.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filter.fileName() + (gzip ? ".ndjson.gz" : ".ndjson"))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     //리뷰 생성
     @PostMapping("/{userId}/{storeId}/{orderId}/create")
     public ResponseEntity<BaseResponse<ResReviewDtoV1>> createReview(
@@ -66,6 +214,17 @@ public class ReviewControllerV1 {
         return ResponseEntity.ok(response);
     }
 
+    //리뷰 일괄 등록 (이관/재처리용, 관리자 전용)
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+    public ResponseEntity<BaseResponse<ResBulkCreateReviewDtoV1>> bulkCreateReviews(
+            @RequestBody ReqBulkCreateReviewDtoV1 bulkCreateReviewDto
+    ) {
+        ResBulkCreateReviewDtoV1 result = reviewService.bulkCreateReviews(bulkCreateReviewDto);
+        BaseResponse<ResBulkCreateReviewDtoV1> response = BaseResponse.onSuccess("리뷰 일괄 등록을 처리하였습니다.", result);
+        return ResponseEntity.ok(response);
+    }
+
     //사용자 아이디에 따른 리뷰 수정
     @PutMapping("/{userId}/{reviewId}")
     public ResponseEntity<BaseResponse<ResReviewDtoV1>> updateReview(
@@ -96,4 +255,30 @@ public class ReviewControllerV1 {
         reviewService.deleteAllReviewsByCustomerId(userId);
         return ResponseEntity.noContent().build();
     }
+
+    // If-None-Match / If-Modified-Since 검사 (ETag, Last-Modified 헤더도 함께 설정)
+    // 페이지를 읽은 버전이 304 검사에 쓴 버전과 다르면 (그 사이 쓰기 / 복제본 지연) ETag 를 읽은 버전으로 바꿈
+    // 오래된 본문에 새 ETag 가 붙어 이후 요청이 오래된 본문으로 304 를 받지 않도록
+    private void applyLoadedVersion(HttpServletResponse response, ReviewVersion checked, ReviewVersion loaded) {
+        if (loaded.tag().equals(checked.tag())) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, "\"" + loaded.tag() + "\"");
+        if (loaded.lastModifiedAt() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED,
+                    loaded.lastModifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    private boolean isNotModified(WebRequest webRequest, ReviewVersion version) {
+        if (version == null) {
+            return false;
+        }
+        String etag = "\"" + version.tag() + "\"";
+        if (version.lastModifiedAt() == null) {
+            return webRequest.checkNotModified(etag);
+        }
+        long lastModified = version.lastModifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return webRequest.checkNotModified(etag, lastModified);
+    }
 }
@@ -0,0 +1,34 @@
+package delivery_system.review.presentation.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리뷰 일괄 등록 요청 (이관/장애 복구 재처리용)
+ * 항목별 검증 결과는 응답의 results 로 돌려주므로 요청 전체를 검증 실패로 거절하지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReqBulkCreateReviewDtoV1 {
+
+    private List<Item> reviews;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+        private String customerId;
+        private UUID storeId;
+        private UUID orderId;
+        private Short rating;
+        private String content;
+        // 원본 작성 시각 (없으면 등록 시각, review.bulk.min-created-at 이후 ~ 현재 시각 이전)
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,44 @@
+package delivery_system.review.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리뷰 일괄 등록 결과 (요청 순서대로 항목별 결과)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResBulkCreateReviewDtoV1 {
+    private int requested;
+    private int created;
+    private int duplicated;
+    private int invalid;
+    private int ineligible;
+    private List<Result> results;
+
+    public enum Status {
+        CREATED,    // 등록됨
+        DUPLICATE,  // 이미 등록된 주문 리뷰 (또는 같은 요청 안의 중복)
+        INVALID,    // 필수 값 누락 / 범위 오류
+        INELIGIBLE  // 주문 확인 실패 (없는 주문 / 다른 사용자·가게의 주문 / 배달 완료 전)
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private int index;
+        private Status status;
+        private UUID reviewId;
+        private UUID orderId;
+        private String customerId;
+        private String message;
+    }
+}
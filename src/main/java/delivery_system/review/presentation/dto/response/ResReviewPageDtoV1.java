@@ -0,0 +1,16 @@
+package delivery_system.review.presentation.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResReviewPageDtoV1 {
+    private List<ResReviewDtoV1> reviews;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package delivery_system.review.presentation.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResStoreRatingDistributionDtoV1 {
+    private UUID storeId;
+    private Double ratingAvg;
+    private Long reviewCount;
+    private Long contentCount;
+    // 별점(1 ~ 5) -> 리뷰 수
+    private Map<Integer, Long> ratingCounts;
+}
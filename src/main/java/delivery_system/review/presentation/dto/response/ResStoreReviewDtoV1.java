@@ -15,4 +15,6 @@ public class ResStoreReviewDtoV1 {
     private Double storeRatingAvg;
     private Long storeReviewCount;
     private List<ResReviewDtoV1> reviews;
+    private String nextCursor;
+    private boolean hasNext;
 }
@@ -1,12 +1,16 @@
 package delivery_system.security;
 
+import delivery_system.common.LogSampler;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +19,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -22,10 +27,25 @@ import java.util.List;
  * JWT 인증 필터
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // GenericFilterBean 의 logger(commons-logging) 와 구분
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     private final JwtUtil jwtUtil;
+    // 지표: review.auth.failures (reason=expired|invalid|error)
+    private final Counter expiredFailures;
+    private final Counter invalidFailures;
+    private final Counter errorFailures;
+    // 인증 실패 로그는 1초에 한 번만 기록 (토큰 대입 공격 시 로그 폭주 방지)
+    private final LogSampler failureLogSampler = new LogSampler(Duration.ofSeconds(1));
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.expiredFailures = meterRegistry.counter("review.auth.failures", "reason", "expired");
+        this.invalidFailures = meterRegistry.counter("review.auth.failures", "reason", "invalid");
+        this.errorFailures = meterRegistry.counter("review.auth.failures", "reason", "error");
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -52,33 +72,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = header.substring(7);
 
             try {
-                if (jwtUtil.validateToken(token)) {
-                    String userId = jwtUtil.getUserIdFromToken(token);
-                    String role = jwtUtil.getRoleFromToken(token);
+                // 요청당 한 번만 파싱/검증 (최근 검증된 토큰은 캐시에서 바로 반환)
+                JwtPrincipal principal = jwtUtil.verify(token);
+                String userId = principal.userId();
+                String role = principal.role();
 
-                    List<SimpleGrantedAuthority> authorities =
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+                List<SimpleGrantedAuthority> authorities =
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
 
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userId, null, authorities);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userId, null, authorities);
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    System.out.println("✅ JWT 인증 성공 - userId: " + userId + ", role: " + role);
-                }
+                log.debug("✅ JWT 인증 성공 - userId: {}, role: {}", userId, role);
 
             } catch (ExpiredJwtException e) {
-                System.err.println("❌ 토큰 만료: " + e.getMessage());
+                expiredFailures.increment();
+                logFailure("expired", e);
                 setErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "토큰이 만료되었습니다.");
                 return;
 
-            } catch (JwtException e) {
-                System.err.println("❌ JWT 에러: " + e.getMessage());
+            } catch (JwtException | IllegalArgumentException e) {
+                invalidFailures.increment();
+                logFailure("invalid", e);
                 setErrorResponse(response, HttpServletResponse.SC_FORBIDDEN, "유효하지 않은 토큰입니다.");
                 return;
 
             } catch (Exception e) {
-                System.err.println("❌ 인증 처리 오류: " + e.getMessage());
+                errorFailures.increment();
+                log.error("❌ 인증 처리 오류", e);
                 setErrorResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "인증 처리 중 오류가 발생했습니다.");
                 return;
             }
@@ -87,6 +110,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void logFailure(String reason, Exception e) {
+        long suppressed = failureLogSampler.sample();
+        if (suppressed >= 0) {
+            log.warn("❌ JWT 인증 실패 - reason: {}, message: {}, suppressed: {}", reason, e.getMessage(), suppressed);
+        }
+    }
+
     private void setErrorResponse(HttpServletResponse response, int status, String message) throws IOException {
         response.setStatus(status);
         response.setContentType("application/json; charset=UTF-8");
@@ -0,0 +1,17 @@
+package delivery_system.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 에서 추출한 사용자 정보
+ *
+ * @param userId    토큰 subject
+ * @param role      role 클레임 (CUSTOMER, OWNER, MANAGER, MASTER)
+ * @param expiresAt 만료 시각 (exp 클레임이 없으면 null)
+ */
+public record JwtPrincipal(String userId, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
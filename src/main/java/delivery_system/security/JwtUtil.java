@@ -1,41 +1,94 @@
 package delivery_system.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
-import java.util.function.Function;
 
 /**
  * JWT 검증 유틸리티
  * UserService에서 발급한 토큰을 검증하고 사용자 정보를 추출합니다.
+ *
+ * - 재사용 가능한 JwtParser 하나로 요청당 한 번만 파싱/서명 검증합니다.
+ * - 검증에 성공한 토큰은 만료 시각까지(최대 jwt.verified-cache.max-ttl) 캐시하여
+ *   같은 토큰의 반복 요청은 서명 검증 없이 처리합니다.
+ * - 캐시 적중/미스 지표는 cache.gets{cache="jwt.verified-tokens"} 로 노출됩니다.
  */
 @Component
 public class JwtUtil {
 
-    private final SecretKey SECRET_KEY;
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+    private static final String CACHE_NAME = "jwt.verified-tokens";
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
-        this.SECRET_KEY = Keys.hmacShaKeyFor(secret.getBytes());
-        System.out.println("✅ ReviewService JWT Secret 로드 완료");
+    private final JwtParser jwtParser;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.verified-cache.max-size:10000}") long cacheMaxSize,
+                   @Value("${jwt.verified-cache.max-ttl:10m}") Duration cacheMaxTtl,
+                   MeterRegistry meterRegistry) {
+        this.jwtParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes()))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheMaxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+        logger.info("✅ ReviewService JWT Secret 로드 완료");
+    }
+
+    /**
+     * 토큰 검증 후 사용자 정보 반환
+     *
+     * @throws ExpiredJwtException 토큰 만료
+     * @throws io.jsonwebtoken.JwtException 서명/형식 오류
+     */
+    public JwtPrincipal verify(String token) {
+        Instant now = Instant.now();
+        JwtPrincipal cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                expiration == null ? null : expiration.toInstant()
+        );
+        verifiedTokens.put(token, principal);
+        return principal;
     }
 
     /**
      * 토큰에서 userId 추출
      */
     public String getUserIdFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return verify(token).userId();
     }
 
     /**
      * 토큰에서 role 추출
      */
     public String getRoleFromToken(String token) {
-        return getClaimFromToken(token, claims -> claims.get("role", String.class));
+        return verify(token).role();
     }
 
     /**
@@ -43,7 +96,7 @@ public class JwtUtil {
      */
     public Boolean isTokenExpired(String token) {
         try {
-            return getExpirationDateFromToken(token).before(new Date());
+            return verify(token).isExpired(Instant.now());
         } catch (Exception e) {
             return true;
         }
@@ -54,13 +107,10 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(SECRET_KEY)
-                    .build()
-                    .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            verify(token);
+            return true;
         } catch (Exception e) {
-            System.out.println("❌ JWT 검증 실패: " + e.getMessage());
+            logger.debug("❌ JWT 검증 실패: {}", e.getMessage());
             return false;
         }
     }
@@ -70,29 +120,35 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token, String userId) {
         try {
-            final String extractedUserId = getUserIdFromToken(token);
-            return (extractedUserId.equals(userId) && !isTokenExpired(token));
+            return verify(token).userId().equals(userId);
         } catch (Exception e) {
             return false;
         }
     }
 
-    // ================= 내부 유틸 메서드 =================
+    // ================= 내부 유틸 =================
 
-    private Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
-    }
+    // 토큰 만료 시각까지만 캐시 (exp 가 없거나 먼 경우 maxTtl 로 제한)
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, JwtPrincipal> {
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimsResolver.apply(claims);
-    }
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            long maxTtlNanos = maxTtl.toNanos();
+            if (principal.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
 
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(SECRET_KEY)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+-- 리뷰 내용 검색용 tsvector (리뷰 등록/수정/일괄 등록 모두 DB 가 계산하므로 별도 동기화 경로가 없음)
+-- 한국어 사전이 없는 PostgreSQL 기본 배포에서도 동작하도록 simple 설정을 복사해 사용합니다.
+-- (공백/문장부호 기준 어절 단위, 영문 소문자화. 조사는 검색어 쪽에서 제거 후 접두사 검색 - ReviewSearchQuery)
+-- 형태소 사전(mecab-ko 등)을 설치하면 이 설정의 매핑만 바꾸고 search_vector 를 다시 계산하면 됩니다.
+CREATE TEXT SEARCH CONFIGURATION review_korean (COPY = simple);
+
+-- 생성 컬럼 추가는 테이블을 다시 쓰므로 (ACCESS EXCLUSIVE) 트래픽이 적은 시간에 배포합니다.
+ALTER TABLE p_review
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('review_korean'::regconfig, coalesce(content, ''))) STORED;
+
+-- 새 컬럼은 통계가 없어 접두사 검색의 일치 행 수를 크게 잘못 추정하므로 바로 수집
+ANALYZE p_review (search_vector);
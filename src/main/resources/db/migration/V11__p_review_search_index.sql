@@ -0,0 +1,6 @@
+-- 리뷰 내용 검색 (findSearchPage) - 살아있고 내용 있는 리뷰만 색인
+-- 가게 내 검색은 리뷰 수가 적은 가게면 ix_p_review_store_created 로 읽고 search_vector 로 거르는 계획이 선택됩니다.
+-- CONCURRENTLY 로 생성하므로 이 스크립트는 트랜잭션 밖에서 실행됩니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_review_search_vector
+    ON p_review USING GIN (search_vector)
+    WHERE deleted_at IS NULL AND has_content;
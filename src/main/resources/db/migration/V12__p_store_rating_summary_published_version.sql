@@ -0,0 +1,14 @@
+-- StoreRatingChanged 발행 상태 (version 이 published_version 보다 크면 아직 발행하지 않은 변경이 있음)
+-- 기존 가게는 -1 로 채우므로 (V5 이후 쓰기가 없는 가게는 version 이 0) 배포 후 모든 가게의 현재 평점이
+-- 한 번씩 발행됩니다. (컨슈머 초기 적재) 새 가게는 0 으로 시작합니다.
+-- 상수 기본값 컬럼 추가는 테이블을 다시 쓰지 않으므로 기존 행의 -1 도 카탈로그 값으로만 채워집니다.
+ALTER TABLE p_store_rating_summary
+    ADD COLUMN IF NOT EXISTS published_version BIGINT NOT NULL DEFAULT -1;
+
+ALTER TABLE p_store_rating_summary
+    ALTER COLUMN published_version SET DEFAULT 0;
+
+-- 발행 대기 가게 조회 (StoreRatingSummaryRepositoryV1.findUnpublishedForUpdate, 변경이 오래된 순)
+CREATE INDEX IF NOT EXISTS ix_p_store_rating_summary_unpublished
+    ON p_store_rating_summary (last_modified_at)
+    WHERE version <> published_version;
@@ -0,0 +1,174 @@
+-- p_review 를 created_at 기준 월별 범위 파티션 테이블로 전환
+-- 기존 테이블의 행을 새 테이블로 복사하므로 이 스크립트가 끝날 때까지 p_review 읽기/쓰기가 모두 대기합니다.
+-- (행 1,000만 건 기준 소요 시간은 README 의 파티션/보관 벤치마크 참고, 점검 시간에 배포)
+--
+-- 파티션 테이블의 PK / 유니크 인덱스는 파티션 키를 포함해야 하므로
+-- - PK 는 (review_id, created_at)
+-- - 주문당 살아있는 리뷰 1건 보장(ux_p_review_order_customer_live)은 p_review_live_order 의 PK 로 옮기고 트리거로 유지
+--   (제약 이름이 같으므로 중복 리뷰 판별 - ReviewService.isDuplicateReview - 은 그대로 동작)
+
+LOCK TABLE p_review IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE p_review RENAME TO p_review_unpartitioned;
+ALTER INDEX p_review_pkey RENAME TO p_review_unpartitioned_pkey;
+
+CREATE TABLE p_review (
+    review_id     UUID         NOT NULL,
+    order_id      UUID         NOT NULL,
+    store_id      UUID         NOT NULL,
+    customer_id   VARCHAR(255) NOT NULL,
+    rating        SMALLINT     NOT NULL,
+    content       TEXT,
+    created_at    TIMESTAMP    NOT NULL,
+    updated_at    TIMESTAMP,
+    updated_by    VARCHAR(255),
+    deleted_at    TIMESTAMP,
+    deleted_by    VARCHAR(255),
+    -- V8 / V10 과 같은 생성 컬럼
+    has_content   BOOLEAN
+        GENERATED ALWAYS AS (content IS NOT NULL AND btrim(content, E'\x01\x02\x03\x04\x05\x06\x07\x08\x09\x0a\x0b\x0c\x0d\x0e\x0f\x10\x11\x12\x13\x14\x15\x16\x17\x18\x19\x1a\x1b\x1c\x1d\x1e\x1f\x20') <> '') STORED,
+    search_vector TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('review_korean'::regconfig, coalesce(content, ''))) STORED,
+    CONSTRAINT p_review_pkey PRIMARY KEY (review_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 월별 파티션 p_review_YYYYMM 생성 (이미 있으면 건너뜀), 생성한 파티션 수 반환
+-- ReviewArchiveScheduler 가 매일 다음 몇 달치 파티션을 미리 만듭니다.
+-- 파티션 생성은 p_review 에 잠깐 배타 잠금이 필요하므로, 긴 조회(내보내기 등) 뒤에서 다른 요청을 막지 않도록 lock_timeout 을 둡니다.
+CREATE OR REPLACE FUNCTION p_review_create_partitions(from_month DATE, to_month DATE) RETURNS INT
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition   TEXT;
+    created     INT  := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', '5s', true);
+    WHILE month_start < to_month LOOP
+        partition := 'p_review_' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF p_review FOR VALUES FROM (%L) TO (%L)',
+                           partition, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+-- 가장 오래된 리뷰의 달부터 4개월 뒤까지
+-- 기본(DEFAULT) 파티션은 두지 않습니다. 있으면 created_at 정렬 조회가 파티션 순서대로 읽고 멈추지 못하고
+-- 모든 파티션의 인덱스를 열어 병합(Merge Append)합니다. 대신 파티션이 없는 달의 리뷰는 등록이 실패하므로
+-- ReviewArchiveScheduler 가 매일 몇 달 앞까지 파티션을 만들어 둡니다.
+SELECT p_review_create_partitions(
+    COALESCE((SELECT min(created_at) FROM p_review_unpartitioned), now())::date,
+    (date_trunc('month', now()) + INTERVAL '4 months')::date);
+
+INSERT INTO p_review (review_id, order_id, store_id, customer_id, rating, content,
+                      created_at, updated_at, updated_by, deleted_at, deleted_by)
+SELECT review_id, order_id, store_id, customer_id, rating, content,
+       created_at, updated_at, updated_by, deleted_at, deleted_by
+FROM p_review_unpartitioned;
+
+DROP TABLE p_review_unpartitioned;
+
+-- 조회 경로 인덱스 (V4 / V5 / V9 / V11 과 같은 정의, 파티션마다 생성됨)
+CREATE INDEX ix_p_review_store_created
+    ON p_review (store_id, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX ix_p_review_store_rating_high
+    ON p_review (store_id, rating DESC, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX ix_p_review_store_rating_low
+    ON p_review (store_id, rating ASC, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX ix_p_review_customer_created
+    ON p_review (customer_id, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX ix_p_review_customer_version
+    ON p_review (customer_id) INCLUDE (created_at, updated_at, deleted_at);
+
+CREATE INDEX ix_p_review_store_content_created
+    ON p_review (store_id, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL AND has_content;
+
+CREATE INDEX ix_p_review_search_vector
+    ON p_review USING GIN (search_vector)
+    WHERE deleted_at IS NULL AND has_content;
+
+-- 주문건 리뷰 조회 / 주문 취소 삭제 (유니크 보장은 p_review_live_order)
+CREATE INDEX ix_p_review_order_customer_live
+    ON p_review (order_id, customer_id)
+    WHERE deleted_at IS NULL;
+
+-- 보관 대상(삭제된 리뷰) 조회
+CREATE INDEX ix_p_review_deleted_at
+    ON p_review (deleted_at)
+    WHERE deleted_at IS NOT NULL;
+
+-- 살아있는 리뷰의 (주문, 사용자) 키 - PK 이름이 기존 유니크 인덱스 이름과 같음
+CREATE TABLE p_review_live_order (
+    order_id    UUID         NOT NULL,
+    customer_id VARCHAR(255) NOT NULL,
+    review_id   UUID         NOT NULL,
+    CONSTRAINT ux_p_review_order_customer_live PRIMARY KEY (order_id, customer_id)
+);
+
+INSERT INTO p_review_live_order (order_id, customer_id, review_id)
+SELECT order_id, customer_id, review_id
+FROM p_review
+WHERE deleted_at IS NULL;
+
+-- 리뷰 등록 / soft delete / 복구 / 행 삭제 시 키 동기화 (같은 키가 이미 있으면 unique_violation)
+CREATE OR REPLACE FUNCTION p_review_live_order_sync() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' AND OLD.deleted_at IS NULL THEN
+        DELETE FROM p_review_live_order
+        WHERE order_id = OLD.order_id AND customer_id = OLD.customer_id AND review_id = OLD.review_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.deleted_at IS NULL THEN
+        INSERT INTO p_review_live_order (order_id, customer_id, review_id)
+        VALUES (NEW.order_id, NEW.customer_id, NEW.review_id);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER tr_p_review_live_order_insert
+    AFTER INSERT ON p_review
+    FOR EACH ROW WHEN (NEW.deleted_at IS NULL)
+    EXECUTE FUNCTION p_review_live_order_sync();
+
+-- 내용/별점 수정은 키가 바뀌지 않으므로 건너뜀
+CREATE TRIGGER tr_p_review_live_order_update
+    AFTER UPDATE ON p_review
+    FOR EACH ROW WHEN (OLD.deleted_at IS DISTINCT FROM NEW.deleted_at
+                       OR OLD.order_id IS DISTINCT FROM NEW.order_id
+                       OR OLD.customer_id IS DISTINCT FROM NEW.customer_id)
+    EXECUTE FUNCTION p_review_live_order_sync();
+
+CREATE TRIGGER tr_p_review_live_order_delete
+    AFTER DELETE ON p_review
+    FOR EACH ROW WHEN (OLD.deleted_at IS NULL)
+    EXECUTE FUNCTION p_review_live_order_sync();
+
+-- 보관 기간이 지난 삭제 리뷰 보관소 (ReviewArchiveScheduler 가 배치 단위로 p_review 에서 옮김)
+-- 한 행이 한 배치이며 reviews 는 리뷰 한 건당 JSON 한 줄(NDJSON)입니다.
+-- 값이 크므로 PostgreSQL 이 TOAST 압축(default_toast_compression)해서 저장합니다.
+CREATE TABLE p_review_archive (
+    archive_id   BIGINT    GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    archived_at  TIMESTAMP NOT NULL,
+    row_count    INT       NOT NULL,
+    deleted_from TIMESTAMP NOT NULL,
+    deleted_to   TIMESTAMP NOT NULL,
+    reviews      TEXT      NOT NULL
+);
+
+ANALYZE p_review;
@@ -0,0 +1,5 @@
+-- 같은 가게(aggregate_id)에 먼저 기록된 미해결 이벤트(재시도 대기 / 발행 중 / FAILED)가 있는지 확인 (OutboxRelay)
+-- 릴레이가 매 주기 NOT EXISTS 로 후보 이벤트마다 한 번씩 조회합니다.
+CREATE INDEX IF NOT EXISTS ix_p_review_outbox_unresolved
+    ON p_review_outbox (aggregate_id, created_at, outbox_id)
+    WHERE status IN ('PENDING', 'FAILED');
@@ -0,0 +1,14 @@
+-- 리뷰 테이블 (기존 운영 DB 에는 이미 존재하므로 IF NOT EXISTS)
+CREATE TABLE IF NOT EXISTS p_review (
+    review_id   UUID         PRIMARY KEY,
+    order_id    UUID         NOT NULL,
+    store_id    UUID         NOT NULL,
+    customer_id VARCHAR(255) NOT NULL,
+    rating      SMALLINT     NOT NULL,
+    content     TEXT,
+    created_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP,
+    updated_by  VARCHAR(255),
+    deleted_at  TIMESTAMP,
+    deleted_by  VARCHAR(255)
+);
@@ -0,0 +1,32 @@
+-- 가게별 평점 집계 (p_review 의 살아있는 리뷰 기준)
+CREATE TABLE IF NOT EXISTS p_store_rating_summary (
+    store_id      UUID      PRIMARY KEY,
+    rating_sum    BIGINT    NOT NULL DEFAULT 0,
+    review_count  BIGINT    NOT NULL DEFAULT 0,
+    content_count BIGINT    NOT NULL DEFAULT 0,
+    rating1_count BIGINT    NOT NULL DEFAULT 0,
+    rating2_count BIGINT    NOT NULL DEFAULT 0,
+    rating3_count BIGINT    NOT NULL DEFAULT 0,
+    rating4_count BIGINT    NOT NULL DEFAULT 0,
+    rating5_count BIGINT    NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP NOT NULL
+);
+
+-- 기존 리뷰로 집계 채우기 (집계가 비어있을 때만 실행)
+INSERT INTO p_store_rating_summary
+    (store_id, rating_sum, review_count, content_count,
+     rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, updated_at)
+SELECT r.store_id,
+       COALESCE(SUM(r.rating), 0),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE r.content IS NOT NULL AND btrim(r.content) <> ''),
+       COUNT(*) FILTER (WHERE r.rating = 1),
+       COUNT(*) FILTER (WHERE r.rating = 2),
+       COUNT(*) FILTER (WHERE r.rating = 3),
+       COUNT(*) FILTER (WHERE r.rating = 4),
+       COUNT(*) FILTER (WHERE r.rating = 5),
+       now()
+FROM p_review r
+WHERE r.deleted_at IS NULL
+  AND NOT EXISTS (SELECT 1 FROM p_store_rating_summary)
+GROUP BY r.store_id;
@@ -0,0 +1,41 @@
+-- (order_id, customer_id) 유니크 인덱스 생성 전, 중복된 살아있는 리뷰 정리
+-- 가장 먼저 작성된 리뷰만 남기고 나머지는 soft delete
+WITH ranked AS (
+    SELECT review_id,
+           row_number() OVER (PARTITION BY order_id, customer_id ORDER BY created_at, review_id) AS rn
+    FROM p_review
+    WHERE deleted_at IS NULL
+)
+UPDATE p_review r
+SET deleted_at = now(),
+    deleted_by = 'duplicate review'
+FROM ranked d
+WHERE r.review_id = d.review_id
+  AND d.rn > 1;
+
+-- 정리된 리뷰가 있는 가게의 평점 집계 재계산
+UPDATE p_store_rating_summary s SET
+    rating_sum    = a.rating_sum,
+    review_count  = a.review_count,
+    content_count = a.content_count,
+    rating1_count = a.rating1_count,
+    rating2_count = a.rating2_count,
+    rating3_count = a.rating3_count,
+    rating4_count = a.rating4_count,
+    rating5_count = a.rating5_count,
+    updated_at    = now()
+FROM (
+    SELECT r.store_id,
+           COALESCE(SUM(r.rating) FILTER (WHERE r.deleted_at IS NULL), 0) AS rating_sum,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL) AS review_count,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL AND r.content IS NOT NULL AND btrim(r.content) <> '') AS content_count,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL AND r.rating = 1) AS rating1_count,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL AND r.rating = 2) AS rating2_count,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL AND r.rating = 3) AS rating3_count,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL AND r.rating = 4) AS rating4_count,
+           COUNT(*) FILTER (WHERE r.deleted_at IS NULL AND r.rating = 5) AS rating5_count
+    FROM p_review r
+    WHERE r.store_id IN (SELECT store_id FROM p_review WHERE deleted_by = 'duplicate review')
+    GROUP BY r.store_id
+) a
+WHERE s.store_id = a.store_id;
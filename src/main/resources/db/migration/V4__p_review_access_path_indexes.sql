@@ -0,0 +1,27 @@
+-- ReviewRepositoryV1 조회 경로에 맞춘 부분 인덱스 (살아있는 리뷰만 색인)
+-- CONCURRENTLY 로 생성하므로 이 스크립트는 트랜잭션 밖에서 실행됩니다.
+
+-- 가게 리뷰 최신순 (findStorePage NEWEST)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_review_store_created
+    ON p_review (store_id, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 가게 리뷰 별점 높은순 (findStorePage RATING_HIGH)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_review_store_rating_high
+    ON p_review (store_id, rating DESC, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 가게 리뷰 별점 낮은순 (findStorePage RATING_LOW)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_review_store_rating_low
+    ON p_review (store_id, rating ASC, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 사용자 리뷰 목록 (findCustomerPage, 사용자 전체 삭제)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_review_customer_created
+    ON p_review (customer_id, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 주문당 사용자 리뷰 1건 보장 (createReview 중복 검사)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_p_review_order_customer_live
+    ON p_review (order_id, customer_id)
+    WHERE deleted_at IS NULL;
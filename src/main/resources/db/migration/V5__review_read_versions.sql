@@ -0,0 +1,14 @@
+-- 조건부 요청(ETag / Last-Modified)용 버전 정보
+
+-- 가게: 집계가 바뀔 때마다 version 증가
+ALTER TABLE p_store_rating_summary
+    ADD COLUMN IF NOT EXISTS version          BIGINT    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS last_modified_at TIMESTAMP;
+
+UPDATE p_store_rating_summary
+SET last_modified_at = updated_at
+WHERE last_modified_at IS NULL;
+
+-- 사용자: 삭제된 리뷰를 포함한 전체 행의 변경 시각을 index-only scan 으로 조회
+CREATE INDEX IF NOT EXISTS ix_p_review_customer_version
+    ON p_review (customer_id) INCLUDE (created_at, updated_at, deleted_at);
@@ -0,0 +1,31 @@
+-- 리뷰 도메인 이벤트 아웃박스 (p_review 변경과 같은 트랜잭션에서 기록, OutboxRelay 가 Kafka 로 발행)
+
+-- Hibernate pooled 식별자 할당 (allocationSize 50 과 일치)
+CREATE SEQUENCE IF NOT EXISTS p_review_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS p_review_outbox (
+    outbox_id       BIGINT       PRIMARY KEY,
+    -- Kafka 메시지 키 겸 발행 순서 보장 단위 (가게 아이디)
+    aggregate_id    VARCHAR(100) NOT NULL,
+    event_type      VARCHAR(100) NOT NULL,
+    topic           VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    -- PENDING: 발행 대기 / SENT: 발행 완료 / FAILED: 재시도 횟수 초과
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT clock_timestamp(),
+    last_error      TEXT,
+    -- 가게 평점 집계 행 잠금 이후 DB 시계로 기록되므로 같은 가게 안에서는 커밋 순서와 일치
+    created_at      TIMESTAMP    NOT NULL DEFAULT clock_timestamp(),
+    sent_at         TIMESTAMP
+);
+
+-- 릴레이 배치 조회 (발행 대기 건만 색인)
+CREATE INDEX IF NOT EXISTS ix_p_review_outbox_pending
+    ON p_review_outbox (created_at, outbox_id)
+    WHERE status = 'PENDING';
+
+-- 발행 완료 건 보관 기간 정리
+CREATE INDEX IF NOT EXISTS ix_p_review_outbox_sent
+    ON p_review_outbox (sent_at)
+    WHERE status = 'SENT';
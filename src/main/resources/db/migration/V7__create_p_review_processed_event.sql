@@ -0,0 +1,11 @@
+-- 정책 이벤트 처리 원장 (PolicyHandler 가 리뷰 삭제와 같은 트랜잭션에서 기록, 재전달된 이벤트 중복 적용 방지)
+
+CREATE TABLE IF NOT EXISTS p_review_processed_event (
+    -- 이벤트 아이디(eventId) 가 있으면 "id:<eventId>", 없으면 "<topic>-<partition>@<offset>"
+    event_key    VARCHAR(255) PRIMARY KEY,
+    processed_at TIMESTAMP    NOT NULL DEFAULT clock_timestamp()
+);
+
+-- 보관 기간이 지난 처리 기록 정리
+CREATE INDEX IF NOT EXISTS ix_p_review_processed_event_processed_at
+    ON p_review_processed_event (processed_at);
@@ -0,0 +1,21 @@
+-- 내용 있는 리뷰 여부를 DB 가 계산해 저장 (평점 집계 content_count / 내용 있는 리뷰 필터의 단일 기준)
+-- Java 의 String.trim() 과 같이 앞뒤의 U+0001 ~ U+0020 문자를 제거한 뒤 비어있지 않으면 true
+-- (StoreRatingDelta.hasContent 와 동일, PostgreSQL text 에는 U+0000 이 들어갈 수 없음)
+-- 생성 컬럼 추가는 테이블을 다시 쓰므로 (ACCESS EXCLUSIVE) 트래픽이 적은 시간에 배포합니다.
+ALTER TABLE p_review
+    ADD COLUMN IF NOT EXISTS has_content BOOLEAN
+        GENERATED ALWAYS AS (content IS NOT NULL AND btrim(content, E'\x01\x02\x03\x04\x05\x06\x07\x08\x09\x0a\x0b\x0c\x0d\x0e\x0f\x10\x11\x12\x13\x14\x15\x16\x17\x18\x19\x1a\x1b\x1c\x1d\x1e\x1f\x20') <> '') STORED;
+
+-- 기존 집계(btrim 공백 기준)와 기준이 달라진 가게의 content_count 보정
+UPDATE p_store_rating_summary s
+SET content_count    = a.content_count,
+    version          = s.version + 1,
+    last_modified_at = now()
+FROM (
+    SELECT store_id, COUNT(*) FILTER (WHERE has_content) AS content_count
+    FROM p_review
+    WHERE deleted_at IS NULL
+    GROUP BY store_id
+) a
+WHERE s.store_id = a.store_id
+  AND s.content_count <> a.content_count;
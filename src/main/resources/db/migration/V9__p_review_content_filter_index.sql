@@ -0,0 +1,6 @@
+-- 가게 리뷰 "내용 있는 리뷰만" 최신순 (findStorePage NEWEST + withContent)
+-- 별점 필터는 기존 ix_p_review_store_rating_high 의 (store_id, rating) 접두사로 처리됩니다.
+-- CONCURRENTLY 로 생성하므로 이 스크립트는 트랜잭션 밖에서 실행됩니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_review_store_content_created
+    ON p_review (store_id, created_at DESC, review_id DESC)
+    WHERE deleted_at IS NULL AND has_content;
@@ -0,0 +1,285 @@
+package delivery_system.review.application.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import delivery_system.common.exception.GlobalExceptionAdvice;
+import delivery_system.common.exception.review.OrderVerificationUnavailableException;
+import delivery_system.common.exception.review.ReviewException;
+import delivery_system.config.OrderVerificationConfig;
+import delivery_system.review.application.client.OrderServiceClient;
+import delivery_system.review.application.metrics.ReviewMetrics;
+import delivery_system.review.application.service.OrderVerificationService.OrderLookup;
+import delivery_system.review.domain.OrderEligibility;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문 확인 (OrderVerificationService -> OrderServiceClient) 를 MockWebServer 주문 서비스로 검증
+ *
+ * Feign 제한 시간은 application.yml 의 spring.cloud.openfeign.client.config.order-service (read-timeout 500ms) 를 그대로 사용하고,
+ * circuit breaker 는 호출 2번(sliding-window-size 4 의 절반)부터 판정하도록 줄여서 설정합니다.
+ */
+@SpringBootTest(classes = OrderVerificationServiceTest.TestConfig.class, properties = {
+        "review.order-verification.enabled=true",
+        "review.order-verification.sliding-window-size=4",
+        "review.order-verification.slow-call-threshold=5s",
+        "review.order-verification.open-state-wait=1m",
+        "review.order-verification.max-concurrent-calls=1"
+})
+class OrderVerificationServiceTest {
+
+    private static final String CUSTOMER_ID = "customer-1";
+    private static final UUID STORE_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+    private static final MockWebServer orderService = new MockWebServer();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 이번 테스트에서 주문 서비스가 받은 요청
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private OrderVerificationService orderVerificationService;
+
+    @Autowired
+    private CircuitBreaker orderServiceCircuitBreaker;
+
+    @DynamicPropertySource
+    static void orderServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("review.order-verification.url",
+                () -> "http://" + orderService.getHostName() + ":" + orderService.getPort());
+    }
+
+    @AfterAll
+    static void shutdown() throws IOException {
+        orderService.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        orderServiceCircuitBreaker.reset();
+        requests.clear();
+    }
+
+    @Test
+    @DisplayName("주문 서비스 응답이 read-timeout 을 넘으면 기다리지 않고 확인 불가(503)로 처리")
+    void timeoutIsUnavailable() {
+        respond(request -> deliveredOrder(lastPathSegment(request)).setHeadersDelay(2, TimeUnit.SECONDS));
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> orderVerificationService.verify(CUSTOMER_ID, STORE_ID, UUID.randomUUID()))
+                .isInstanceOf(OrderVerificationUnavailableException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(1500));
+        assertThat(orderServiceCircuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패가 쌓이면 circuit 이 열리고, 열린 동안에는 주문 서비스를 호출하지 않고 거절")
+    void openCircuitRejectsWithoutCalling() {
+        respond(request -> new MockResponse().setResponseCode(500));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> orderVerificationService.verify(CUSTOMER_ID, STORE_ID, UUID.randomUUID()))
+                    .isInstanceOf(OrderVerificationUnavailableException.class);
+        }
+        assertThat(orderServiceCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> orderVerificationService.verify(CUSTOMER_ID, STORE_ID, UUID.randomUUID()))
+                .isInstanceOf(OrderVerificationUnavailableException.class);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("bulkhead 거절은 확인 불가로 처리하지만 circuit breaker 실패로 세지 않음")
+    void bulkheadRejectionIsNotCircuitFailure() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        respond(request -> {
+            entered.countDown();
+            release.await(400, TimeUnit.MILLISECONDS);
+            return deliveredOrder(lastPathSegment(request));
+        });
+
+        // max-concurrent-calls=1 자리를 첫 호출이 차지한 동안 두 번째 호출
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                orderVerificationService.verify(CUSTOMER_ID, STORE_ID, UUID.randomUUID()));
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> orderVerificationService.verify(CUSTOMER_ID, STORE_ID, UUID.randomUUID()))
+                .isInstanceOf(OrderVerificationUnavailableException.class);
+        release.countDown();
+        first.get(2, TimeUnit.SECONDS);
+
+        CircuitBreaker.Metrics metrics = orderServiceCircuitBreaker.getMetrics();
+        assertThat(metrics.getNumberOfFailedCalls()).isZero();
+        assertThat(metrics.getNumberOfSuccessfulCalls()).isEqualTo(1);
+        assertThat(orderServiceCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("없는 주문(404)은 작성 불가로 거절하고 circuit breaker 실패로 세지 않음")
+    void notFoundIsNotCircuitFailure() {
+        respond(request -> new MockResponse().setResponseCode(404));
+
+        assertThatThrownBy(() -> orderVerificationService.verify(CUSTOMER_ID, STORE_ID, UUID.randomUUID()))
+                .isInstanceOf(ReviewException.class)
+                .isNotInstanceOf(OrderVerificationUnavailableException.class)
+                .hasMessage(OrderEligibility.NOT_FOUND.getMessage());
+        assertThat(orderServiceCircuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 확인은 batch-size 이하 주문을 한 번의 batch 호출로 조회하고, 확인된 주문은 다시 묻지 않음")
+    void checkAllUsesSingleBatchCall() {
+        respond(request -> {
+            List<UUID> orderIds = readBody(request, new TypeReference<>() { });
+            return json(orderIds.stream().map(OrderVerificationServiceTest::deliveredOrderBody).toList());
+        });
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        OrderLookup lookup = orderVerificationService.checkAll(orderIds);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getMethod()).isEqualTo("POST");
+        assertThat(requests.get(0).getPath()).isEqualTo("/api/v1/orders/batch");
+        assertThat(lookup.orders()).containsOnlyKeys(orderIds);
+        for (UUID orderId : orderIds) {
+            assertThat(orderVerificationService.eligibility(lookup, CUSTOMER_ID, STORE_ID, orderId))
+                    .isEqualTo(OrderEligibility.ELIGIBLE);
+        }
+
+        orderVerificationService.checkAll(orderIds);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주문 서비스가 503 이면 리뷰 API 는 503 ORDER_VERIFICATION_UNAVAILABLE 로 응답")
+    void unavailableMapsTo503() throws Exception {
+        respond(request -> new MockResponse().setResponseCode(503));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new VerifyController(orderVerificationService))
+                .setControllerAdvice(new GlobalExceptionAdvice())
+                .build();
+
+        mockMvc.perform(post("/verify/{orderId}", UUID.randomUUID()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("ORDER_VERIFICATION_UNAVAILABLE"));
+    }
+
+    // 요청을 기록한 뒤 handler 의 응답을 돌려주는 주문 서비스
+    private void respond(RequestHandler handler) {
+        orderService.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                requests.add(request);
+                return handler.handle(request);
+            }
+        });
+    }
+
+    private static MockResponse deliveredOrder(UUID orderId) {
+        return json(deliveredOrderBody(orderId));
+    }
+
+    private static Map<String, Object> deliveredOrderBody(UUID orderId) {
+        return Map.of("orderId", orderId, "customerId", CUSTOMER_ID, "storeId", STORE_ID, "status", "DELIVERED");
+    }
+
+    private static MockResponse json(Object body) {
+        try {
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T readBody(RecordedRequest request, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(request.getBody().readUtf8(), type);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static UUID lastPathSegment(RecordedRequest request) {
+        List<String> segments = request.getRequestUrl().pathSegments();
+        return UUID.fromString(segments.get(segments.size() - 1));
+    }
+
+    @FunctionalInterface
+    private interface RequestHandler {
+        MockResponse handle(RecordedRequest request) throws InterruptedException;
+    }
+
+    // 리뷰 등록 API 와 같은 예외 처리(GlobalExceptionAdvice)로 주문 확인만 호출
+    @RestController
+    static class VerifyController {
+
+        private final OrderVerificationService orderVerificationService;
+
+        VerifyController(OrderVerificationService orderVerificationService) {
+            this.orderVerificationService = orderVerificationService;
+        }
+
+        @PostMapping("/verify/{orderId}")
+        void verify(@PathVariable UUID orderId) {
+            orderVerificationService.verify(CUSTOMER_ID, STORE_ID, orderId);
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+            FeignAutoConfiguration.class})
+    @EnableFeignClients(clients = OrderServiceClient.class)
+    @Import({OrderVerificationConfig.class, OrderVerificationService.class, ReviewMetrics.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package delivery_system.review.domain.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * p_review 조회 경로 인덱스 검증 (embedded PostgreSQL + db/migration 전체 적용)
+ *
+ * 가게/사용자/주문건 조회가 ix_p_review_* 부분 인덱스(deleted_at IS NULL)를 타는지 실행 계획으로 확인합니다.
+ * p_review 는 월별 파티션 테이블이므로 계획에 나오는 파티션 인덱스를 부모 인덱스 이름으로 바꿔 비교합니다.
+ * (미리 만들어 둔 빈 파티션은 순차 스캔 비용이 0 이라 그대로 허용)
+ * 쿼리는 ReviewKeysetRepositoryImpl / ReviewRepositoryV1 이 만드는 SQL 과 같은 모양입니다.
+ */
+class ReviewIndexPlanTest {
+
+    private static final int STORES = 200;
+    private static final int CUSTOMERS = 2_000;
+    private static final int REVIEWS = 60_000;
+
+    private static final UUID STORE_ID = storeId(7);
+    private static final String CUSTOMER_ID = "customer-7";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+
+        // application.yml 의 spring.flyway 와 같은 설정
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            // 최근 약 6주(1분 간격)에 걸친 리뷰, 10건 중 1건은 삭제된 리뷰 (3개월 전부터 파티션 생성)
+            statement.execute("SELECT p_review_create_partitions((now() - INTERVAL '3 months')::date, (now() + INTERVAL '1 month')::date)");
+            statement.execute("""
+                    INSERT INTO p_review (review_id, order_id, store_id, customer_id, rating, content, created_at, deleted_at)
+                    SELECT gen_random_uuid(), gen_random_uuid(),
+                           ('dddddddd-0000-0000-0000-' || lpad(to_hex(i %% %d), 12, '0'))::uuid,
+                           'customer-' || (i %% %d),
+                           1 + i %% 5,
+                           CASE WHEN i %% 3 = 0 THEN NULL ELSE '맛있어요 ' || i END,
+                           LOCALTIMESTAMP - make_interval(mins => i),
+                           CASE WHEN i %% 10 = 0 THEN LOCALTIMESTAMP END
+                    FROM generate_series(1, %d) i
+                    """.formatted(STORES, CUSTOMERS, REVIEWS));
+            statement.execute("ANALYZE p_review");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("가게 리뷰 최신순 조회는 ix_p_review_store_created 사용")
+    void storeNewest() throws Exception {
+        assertThat(indexesUsed("""
+                SELECT * FROM p_review
+                WHERE store_id = '%s' AND deleted_at IS NULL
+                ORDER BY created_at DESC, review_id DESC
+                LIMIT 21
+                """.formatted(STORE_ID)))
+                .containsExactly("ix_p_review_store_created");
+    }
+
+    @Test
+    @DisplayName("가게 리뷰 별점 높은순/낮은순 조회는 ix_p_review_store_rating_high / low 사용")
+    void storeByRating() throws Exception {
+        assertThat(indexesUsed("""
+                SELECT * FROM p_review
+                WHERE store_id = '%s' AND deleted_at IS NULL
+                ORDER BY rating DESC, created_at DESC, review_id DESC
+                LIMIT 21
+                """.formatted(STORE_ID)))
+                .containsExactly("ix_p_review_store_rating_high");
+        assertThat(indexesUsed("""
+                SELECT * FROM p_review
+                WHERE store_id = '%s' AND deleted_at IS NULL
+                ORDER BY rating ASC, created_at DESC, review_id DESC
+                LIMIT 21
+                """.formatted(STORE_ID)))
+                .containsExactly("ix_p_review_store_rating_low");
+    }
+
+    @Test
+    @DisplayName("사용자 리뷰 최신순 조회(다음 페이지 포함)는 ix_p_review_customer_created 사용")
+    void customerNewest() throws Exception {
+        assertThat(indexesUsed("""
+                SELECT * FROM p_review
+                WHERE customer_id = '%s' AND deleted_at IS NULL
+                  AND (created_at, review_id) < (LOCALTIMESTAMP - INTERVAL '1 day', 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+                ORDER BY created_at DESC, review_id DESC
+                LIMIT 21
+                """.formatted(CUSTOMER_ID)))
+                .containsExactly("ix_p_review_customer_created");
+    }
+
+    @Test
+    @DisplayName("주문건 리뷰 조회는 ix_p_review_order_customer_live 사용")
+    void orderLookup() throws Exception {
+        UUID orderId;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT order_id FROM p_review WHERE customer_id = '" + CUSTOMER_ID + "' AND deleted_at IS NULL LIMIT 1")) {
+            resultSet.next();
+            orderId = resultSet.getObject(1, UUID.class);
+        }
+
+        assertThat(indexesUsed("""
+                SELECT * FROM p_review
+                WHERE order_id = '%s' AND customer_id = '%s' AND deleted_at IS NULL
+                """.formatted(orderId, CUSTOMER_ID)))
+                .containsExactly("ix_p_review_order_customer_live");
+    }
+
+    @Test
+    @DisplayName("같은 주문/사용자의 살아있는 리뷰는 하나만 - 두 번째는 ux_p_review_order_customer_live 위반, 삭제 후에는 다시 등록 가능")
+    void secondLiveReviewIsRejected() throws Exception {
+        UUID orderId = UUID.randomUUID();
+        String customerId = "customer-unique";
+        UUID first = UUID.randomUUID();
+
+        try (Connection connection = dataSource.getConnection()) {
+            insertReview(connection, first, orderId, customerId);
+
+            assertThatThrownBy(() -> insertReview(connection, UUID.randomUUID(), orderId, customerId))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("ux_p_review_order_customer_live")
+                    .extracting(e -> ((SQLException) e).getSQLState())
+                    .isEqualTo("23505");
+
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "UPDATE p_review SET deleted_at = LOCALTIMESTAMP, deleted_by = ? WHERE review_id = ?")) {
+                delete.setString(1, customerId);
+                delete.setObject(2, first);
+                delete.executeUpdate();
+            }
+            insertReview(connection, UUID.randomUUID(), orderId, customerId);
+        }
+    }
+
+    private static void insertReview(Connection connection, UUID reviewId, UUID orderId, String customerId) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO p_review (review_id, order_id, store_id, customer_id, rating, content, created_at)
+                VALUES (?, ?, ?, ?, 5, '좋아요', ?)
+                """)) {
+            insert.setObject(1, reviewId);
+            insert.setObject(2, orderId);
+            insert.setObject(3, STORE_ID);
+            insert.setString(4, customerId);
+            insert.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            insert.executeUpdate();
+        }
+    }
+
+    // 실행 계획에 나온 인덱스 (파티션 인덱스는 부모 인덱스 이름으로), 행이 있는 파티션을 순차 스캔하면 실패
+    private static Set<String> indexesUsed(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            JsonNode plan;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+                resultSet.next();
+                plan = objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+
+            Set<String> partitionIndexes = new HashSet<>();
+            Set<String> seqScanned = new HashSet<>();
+            collectScans(plan, partitionIndexes, seqScanned);
+
+            for (String relation : seqScanned) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM " + relation + ")")) {
+                    resultSet.next();
+                    assertThat(resultSet.getBoolean(1)).as("%s 순차 스캔: %s", relation, plan).isFalse();
+                }
+            }
+
+            Set<String> indexes = new HashSet<>();
+            try (PreparedStatement root = connection.prepareStatement(
+                    "SELECT pg_partition_root(CAST(? AS regclass))::text")) {
+                for (String partitionIndex : partitionIndexes) {
+                    root.setString(1, partitionIndex);
+                    try (ResultSet resultSet = root.executeQuery()) {
+                        resultSet.next();
+                        indexes.add(resultSet.getString(1));
+                    }
+                }
+            }
+            return indexes;
+        }
+    }
+
+    private static void collectScans(JsonNode node, Set<String> indexes, Set<String> seqScanned) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScanned.add(node.get("Relation Name").asText());
+        }
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectScans(child, indexes, seqScanned);
+        }
+    }
+
+    private static UUID storeId(int i) {
+        return UUID.fromString("dddddddd-0000-0000-0000-%012x".formatted(i));
+    }
+}
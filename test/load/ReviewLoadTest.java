@@ -0,0 +1,108 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리뷰 조회 API 부하 테스트 (closed-loop, 의존성 없음)
+ *
+ * 사용법:
+ * java test/load/ReviewLoadTest.java <url> [동시 사용자 수=200] [측정 시간(초)=30] [워밍업(초)=10]
+ *
+ * 예) 플랫폼 스레드 / 가상 스레드 모드(VIRTUAL_THREADS_ENABLED=true)로 각각 실행한 뒤 결과 비교
+ * java test/load/ReviewLoadTest.java http://app-host:8084/api/v1/reviews/order/{orderId} 400 30
+ *
+ * 부하 발생기는 앱/DB 와 다른 호스트에서 실행하고, 처리량이 더 늘지 않는 지점보다 낮은 동시 사용자 수로 측정합니다.
+ * (같은 호스트에서 포화 상태로 잰 지연 시간은 서버가 아니라 대기열을 잰 값)
+ * 결과를 남길 때는 errors 도 함께 기록합니다.
+ */
+public class ReviewLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: ReviewLoadTest <url> [concurrency] [seconds] [warmupSeconds]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int warmupSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        System.out.printf("url=%s concurrency=%d warmup=%ds duration=%ds%n", uri, concurrency, warmupSeconds, seconds);
+        run(client, request, concurrency, warmupSeconds);
+        Result result = run(client, request, concurrency, seconds);
+
+        long[] latencies = result.latenciesMicros();
+        Arrays.sort(latencies);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                latencies.length, result.errors(), latencies.length / (double) seconds);
+        System.out.printf("latency(ms) p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1000.0);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> perUser = new ArrayList<>();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = (System.nanoTime() - started) / 1000;
+                    }
+                    synchronized (perUser) {
+                        perUser.add(Arrays.copyOf(samples, count));
+                    }
+                });
+            }
+        }
+        long[] all = perUser.stream().flatMapToLong(Arrays::stream).toArray();
+        return new Result(all, errors.get());
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1000.0;
+    }
+
+    private record Result(long[] latenciesMicros, long errors) {
+    }
+}
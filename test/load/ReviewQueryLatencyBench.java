@@ -0,0 +1,174 @@
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 조회 쿼리 지연 시간 측정 (JDBC, 애플리케이션 없이 p_review 에 직접 실행)
+ *
+ * 살아있는 리뷰를 표본 추출(TABLESAMPLE)해서 가게/사용자/주문/커서 값으로 쓰고,
+ * 리포지토리의 조회 경로와 같은 모양의 쿼리를 쿼리마다 iterations 번 실행해 p50/p90/p99 를 출력합니다.
+ * 파티션 전환(V13) 전/후, 보관 작업 실행 전/후 결과를 비교할 때 사용합니다. (README 의 파티션/보관 벤치마크 참고)
+ *
+ * 사용법 (PostgreSQL JDBC 드라이버를 classpath 에 지정):
+ * java -cp postgresql.jar test/load/ReviewQueryLatencyBench.java <jdbcUrl> [user] [password] [iterations=300]
+ *
+ * 예) java -cp ~/.gradle/caches/.../postgresql-42.7.3.jar test/load/ReviewQueryLatencyBench.java \
+ *       jdbc:postgresql://localhost:5432/review postgres postgres 300
+ */
+public class ReviewQueryLatencyBench {
+
+    private static final String VIEW_COLUMNS =
+            "review_id, order_id, store_id, customer_id, rating, content, created_at, updated_by, updated_at";
+
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        // ReviewKeysetRepositoryImpl - 가게 리뷰 최신순 첫 페이지 / 커서 이후 페이지
+        QUERIES.put("store newest (first page)",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE store_id = ?::uuid AND deleted_at IS NULL"
+                        + " ORDER BY created_at DESC, review_id DESC LIMIT 21");
+        QUERIES.put("store newest (cursor page)",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE store_id = ?::uuid AND deleted_at IS NULL"
+                        + " AND (created_at, review_id) < (?, ?::uuid) AND created_at <= ?"
+                        + " ORDER BY created_at DESC, review_id DESC LIMIT 21");
+        QUERIES.put("store rating high (first page)",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE store_id = ?::uuid AND deleted_at IS NULL"
+                        + " ORDER BY rating DESC, created_at DESC, review_id DESC LIMIT 21");
+        QUERIES.put("hot store newest (first page)",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE store_id = ?::uuid AND deleted_at IS NULL"
+                        + " ORDER BY created_at DESC, review_id DESC LIMIT 21");
+        QUERIES.put("customer newest (first page)",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE customer_id = ? AND deleted_at IS NULL"
+                        + " ORDER BY created_at DESC, review_id DESC LIMIT 21");
+        // ReviewRepositoryV1.findViewByOrderIdAndCustomerId
+        QUERIES.put("order review",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE order_id = ?::uuid AND customer_id = ? AND deleted_at IS NULL");
+        // ReviewRepositoryV1.findByReviewIdAndDeletedAtIsNull (수정/삭제 전 조회)
+        QUERIES.put("review by id",
+                "SELECT " + VIEW_COLUMNS + " FROM p_review WHERE review_id = ?::uuid AND deleted_at IS NULL");
+        // ReviewRepositoryV1.findVersionByCustomerId (조건부 요청, 삭제된 행 포함)
+        QUERIES.put("customer version",
+                "SELECT COUNT(*), MAX(GREATEST(created_at, COALESCE(updated_at, created_at), COALESCE(deleted_at, created_at)))"
+                        + " FROM p_review WHERE customer_id = ?");
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: ReviewQueryLatencyBench <jdbcUrl> [user] [password] [iterations]");
+            System.exit(1);
+        }
+        String user = args.length > 1 ? args[1] : null;
+        String password = args.length > 2 ? args[2] : null;
+        int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 300;
+
+        try (Connection connection = DriverManager.getConnection(args[0], user, password)) {
+            List<Sample> samples = sample(connection);
+            String hotStore = hotStore(samples);
+            System.out.printf("rows=%d samples=%d hotStore=%s iterations=%d%n",
+                    count(connection), samples.size(), hotStore, iterations);
+            System.out.printf("%-32s %9s %9s %9s%n", "query", "p50(ms)", "p90(ms)", "p99(ms)");
+
+            for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+                try (PreparedStatement statement = connection.prepareStatement(query.getValue())) {
+                    // 워밍업 (prepared statement 가 서버 측 generic plan 으로 바뀌는 구간 포함)
+                    run(statement, query.getKey(), samples, hotStore, iterations / 3);
+                    long[] latencies = run(statement, query.getKey(), samples, hotStore, iterations);
+                    Arrays.sort(latencies);
+                    System.out.printf("%-32s %9.3f %9.3f %9.3f%n", query.getKey(),
+                            percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99));
+                }
+            }
+        }
+    }
+
+    private static long[] run(PreparedStatement statement, String name, List<Sample> samples, String hotStore,
+                              int iterations) throws SQLException {
+        long[] latencies = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            Sample sample = samples.get(i % samples.size());
+            bind(statement, name, sample, hotStore);
+            long started = System.nanoTime();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getObject(1);
+                }
+            }
+            latencies[i] = (System.nanoTime() - started) / 1000;
+        }
+        return latencies;
+    }
+
+    private static void bind(PreparedStatement statement, String name, Sample sample, String hotStore) throws SQLException {
+        switch (name) {
+            case "store newest (cursor page)" -> {
+                statement.setString(1, sample.storeId());
+                statement.setTimestamp(2, sample.createdAt());
+                statement.setString(3, sample.reviewId());
+                statement.setTimestamp(4, sample.createdAt());
+            }
+            case "hot store newest (first page)" -> statement.setString(1, hotStore);
+            case "customer newest (first page)", "customer version" -> statement.setString(1, sample.customerId());
+            case "order review" -> {
+                statement.setString(1, sample.orderId());
+                statement.setString(2, sample.customerId());
+            }
+            case "review by id" -> statement.setString(1, sample.reviewId());
+            default -> statement.setString(1, sample.storeId());
+        }
+    }
+
+    // 살아있는 리뷰 표본 (가게/사용자는 리뷰 수에 비례해서 뽑힘, 테이블 물리 순서와 무관하게 같은 행을 고르도록 md5 정렬)
+    private static List<Sample> sample(Connection connection) throws SQLException {
+        List<Sample> samples = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT review_id::text, order_id::text, store_id::text, customer_id, created_at"
+                        + " FROM p_review TABLESAMPLE SYSTEM (0.5) REPEATABLE (42)"
+                        + " WHERE deleted_at IS NULL ORDER BY md5(review_id::text) LIMIT 500");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                samples.add(new Sample(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
+                        resultSet.getString(4), resultSet.getTimestamp(5)));
+            }
+        }
+        if (samples.isEmpty()) {
+            throw new IllegalStateException("p_review 에 살아있는 리뷰가 없습니다.");
+        }
+        return samples;
+    }
+
+    // 표본에서 가장 많이 나온 가게
+    private static String hotStore(List<Sample> samples) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Sample sample : samples) {
+            counts.merge(sample.storeId(), 1, Integer::sum);
+        }
+        return counts.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey();
+    }
+
+    private static long count(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT count(*) FROM p_review");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1000.0;
+    }
+
+    private record Sample(String reviewId, String orderId, String storeId, String customerId, Timestamp createdAt) {
+    }
+}
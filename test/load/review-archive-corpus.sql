@@ -0,0 +1,32 @@
+-- 리뷰 보관(archival) / 파티션 벤치마크용 합성 리뷰 생성 (p_review 에 직접 INSERT, 평점 집계는 갱신하지 않음)
+--
+-- 사용법: psql -f test/load/review-archive-corpus.sql <db>  (행 수는 generate_series 에서 조정, 기본 800만 건)
+-- - 가게 20,000곳 (가게당 리뷰 수는 한쪽으로 치우침), 사용자 500,000명, 작성 시각은 최근 1,000일에 고르게 분포
+-- - 탈퇴/폐업/취소로 지워진 리뷰가 쌓인 상황을 흉내 내기 위해 60% 는 작성 이후 임의 시각에 soft delete
+-- - 모든 행의 customer_id 가 'archive-corpus' 로 시작하므로 정리할 때:
+--   DELETE FROM p_review WHERE customer_id LIKE 'archive-corpus%';
+--   DELETE FROM p_review_archive;  (보관 작업을 실행한 경우)
+
+INSERT INTO p_review (review_id, order_id, store_id, customer_id, rating, content, created_at, deleted_at, deleted_by)
+SELECT gen_random_uuid(),
+       gen_random_uuid(),
+       ('dddddddd-0000-0000-0000-' || lpad(to_hex((20000 * power(random(), 2))::int), 12, '0'))::uuid,
+       'archive-corpus-' || (g % 500000),
+       (1 + floor(random() * 5))::smallint,
+       CASE WHEN random() < 0.1 THEN NULL
+            ELSE (ARRAY['맛있어요', '배달이 빨랐어요', '양이 많아요', '국물이 식었어요 다음엔 따뜻하게 부탁드려요',
+                        '사장님이 친절하세요', '가격 대비 괜찮았습니다', '포장이 깔끔했어요', '조금 짰어요',
+                        '재주문 의사 있습니다 항상 맛있게 먹고 있어요', '별로였어요'])[1 + floor(random() * 10)::int]
+                 || ' ' || g
+       END,
+       created,
+       CASE WHEN deleted THEN created + random() * (now() - created) END,
+       CASE WHEN deleted THEN 'user is deleted' END
+FROM (
+    SELECT g,
+           now() - random() * interval '1000 days' AS created,
+           random() < 0.6 AS deleted
+    FROM generate_series(1, 8000000) g
+) rows;
+
+ANALYZE p_review;
@@ -0,0 +1,68 @@
+-- 리뷰 검색 벤치마크용 합성 리뷰 생성 (p_review 에 직접 INSERT, 평점 집계는 갱신하지 않음)
+--
+-- 사용법: psql -f test/load/review-search-corpus.sql <db>  (행 수는 마지막 generate_series 에서 조정, 기본 200만 건)
+-- - 가게 20,000곳, 가게당 리뷰 수는 한쪽으로 치우침 (가장 큰 가게 수만 건)
+-- - 내용은 배달 리뷰에 자주 나오는 어절(명사+조사, 서술어 활용형)을 Zipf 에 가깝게 뽑고,
+--   드물게 나오는 단어를 흉내 내기 위해 무작위 2~3음절 어절을 섞음
+-- - 약 5% 는 내용 없음, 1% 는 삭제된 리뷰
+-- - 모든 행의 customer_id 가 'search-corpus' 로 시작하므로 정리할 때:
+--   DELETE FROM p_review WHERE customer_id LIKE 'search-corpus%';
+
+CREATE TEMP TABLE corpus_word (idx INT PRIMARY KEY, word TEXT NOT NULL);
+
+INSERT INTO corpus_word (idx, word)
+SELECT row_number() OVER () - 1, w
+FROM (
+    SELECT noun || particle AS w
+    FROM unnest(ARRAY['배달', '음식', '치킨', '피자', '떡볶이', '짜장면', '짬뽕', '탕수육', '족발', '보쌈',
+                      '국물', '양', '맛', '가격', '포장', '사장님', '서비스', '리뷰', '메뉴', '소스',
+                      '튀김', '면', '밥', '반찬', '김치', '라면', '햄버거', '감자튀김', '콜라', '커피',
+                      '디저트', '케이크', '샐러드', '초밥', '회', '돈까스', '카레', '국밥', '순대', '닭발']) AS noun,
+         unnest(ARRAY['', '이', '가', '은', '는', '을', '를', '도', '만', '에', '의', '로']) AS particle
+    UNION ALL
+    SELECT stem || ending
+    FROM unnest(ARRAY['맛있', '빨랐', '늦었', '친절했', '따뜻했', '식었', '짰', '싱거웠', '괜찮았', '많았']) AS stem,
+         unnest(ARRAY['어요', '습니다', '고', '는데', '네요', '지만']) AS ending
+    UNION ALL
+    SELECT unnest(ARRAY['정말', '너무', '진짜', '또', '다음에', '주문할게요', '추천합니다', '최고', '별로',
+                        '재주문', '항상', '감사합니다', '조금', '아주', '완전', 'good', 'delicious', 'fast'])
+) words;
+
+-- 희귀 어절 (무작위 2~3음절, idx 100000 부터)
+INSERT INTO corpus_word (idx, word)
+SELECT 100000 + g - 1,
+       chr(44032 + (random() * 11171)::int) || chr(44032 + (random() * 11171)::int)
+           || CASE WHEN random() < 0.5 THEN chr(44032 + (random() * 11171)::int) ELSE '' END
+FROM generate_series(1, 20000) g;
+
+ANALYZE corpus_word;
+
+INSERT INTO p_review (review_id, order_id, store_id, customer_id, rating, content, created_at, deleted_at, deleted_by)
+SELECT gen_random_uuid(),
+       gen_random_uuid(),
+       -- 가게 번호를 제곱 분포로 뽑아 일부 가게에 리뷰가 몰리도록
+       ('eeeeeeee-0000-0000-0000-' || lpad(to_hex((20000 * power(random(), 2))::int), 12, '0'))::uuid,
+       'search-corpus-' || (g % 200000),
+       (1 + floor(random() * 5))::smallint,
+       CASE WHEN random() < 0.05 THEN NULL ELSE (
+           SELECT string_agg(word, ' ')
+           FROM (
+               SELECT w.word
+               FROM generate_series(1, 4 + (random() * 12)::int + (g * 0)) n
+               CROSS JOIN LATERAL (
+                   -- n 을 참조해야 어절마다 다시 뽑음
+                   SELECT CASE
+                       WHEN random() < 0.9 THEN floor(common.cnt * power(random(), 2))::int + (n * 0)
+                       ELSE 100000 + floor(random() * 20000)::int
+                   END AS idx
+               ) pick
+               JOIN corpus_word w ON w.idx = pick.idx
+           ) picked
+       ) END,
+       now() - random() * interval '730 days',
+       CASE WHEN random() < 0.01 THEN now() END,
+       NULL
+FROM generate_series(1, 2000000) g,
+     (SELECT count(*) AS cnt FROM corpus_word WHERE idx < 100000) common;
+
+ANALYZE p_review;
@@ -0,0 +1,164 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 주문 서비스 로컬 스텁 (리뷰 등록 주문 확인 / circuit breaker 동작 확인용, 의존성 없음)
+ *
+ * 사용법:
+ * java test/stub/OrderServiceStub.java [포트=8082] [주문 CSV] [지연(ms)=0] [실패 비율(0~1)=0]
+ *
+ * - 주문 CSV: 한 줄에 orderId,customerId,storeId,status (예: 0b9c...,user1,5f2e...,DELIVERED)
+ * - GET  /api/v1/orders/{orderId}  : 주문 한 건 (없으면 404)
+ * - POST /api/v1/orders/batch      : ["orderId", ...] -> 있는 주문 목록
+ * - POST /__stub/orders            : CSV 본문으로 주문 추가
+ * - POST /__stub/config?delayMs=&failRate= : 실행 중 지연/실패 비율 변경 (장애 재현)
+ * - GET  /__stub/stats             : 받은 요청 수 (단건/묶음)
+ *
+ * 리뷰 서비스는 ORDER_VERIFICATION_ENABLED=true ORDER_SERVICE_URL=http://localhost:8082 로 실행합니다.
+ */
+public class OrderServiceStub {
+
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private static final Map<String, String[]> orders = new ConcurrentHashMap<>();
+    private static volatile long delayMs;
+    private static volatile double failRate;
+    private static final AtomicLong singleRequests = new AtomicLong();
+    private static final AtomicLong batchRequests = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8082;
+        if (args.length > 1) {
+            loadOrders(Files.readString(Path.of(args[1])));
+        }
+        delayMs = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        failRate = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 512);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/v1/orders/", OrderServiceStub::handleOrders);
+        server.createContext("/__stub/", OrderServiceStub::handleStub);
+        server.start();
+        System.out.printf("order-service stub :%d orders=%d delayMs=%d failRate=%.2f%n", port, orders.size(), delayMs, failRate);
+    }
+
+    private static void handleOrders(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            boolean batch = path.equals("/api/v1/orders/batch") && exchange.getRequestMethod().equals("POST");
+            (batch ? batchRequests : singleRequests).incrementAndGet();
+
+            if (delayMs > 0) {
+                Thread.sleep(delayMs);
+            }
+            if (failRate > 0 && ThreadLocalRandom.current().nextDouble() < failRate) {
+                send(exchange, 500, "{\"error\":\"stub failure\"}");
+                return;
+            }
+
+            if (batch) {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                StringJoiner found = new StringJoiner(",", "[", "]");
+                Matcher matcher = UUID_PATTERN.matcher(body);
+                while (matcher.find()) {
+                    String[] order = orders.get(matcher.group().toLowerCase());
+                    if (order != null) {
+                        found.add(toJson(order));
+                    }
+                }
+                send(exchange, 200, found.toString());
+                return;
+            }
+
+            String[] order = orders.get(path.substring("/api/v1/orders/".length()).toLowerCase());
+            if (order == null) {
+                send(exchange, 404, "{\"error\":\"order not found\"}");
+            } else {
+                send(exchange, 200, toJson(order));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void handleStub(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            switch (path) {
+                case "/__stub/orders" -> {
+                    int added = loadOrders(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                    send(exchange, 200, "{\"added\":" + added + ",\"orders\":" + orders.size() + "}");
+                }
+                case "/__stub/config" -> {
+                    Map<String, String> params = queryParams(exchange.getRequestURI());
+                    if (params.containsKey("delayMs")) {
+                        delayMs = Long.parseLong(params.get("delayMs"));
+                    }
+                    if (params.containsKey("failRate")) {
+                        failRate = Double.parseDouble(params.get("failRate"));
+                    }
+                    send(exchange, 200, "{\"delayMs\":" + delayMs + ",\"failRate\":" + failRate + "}");
+                }
+                case "/__stub/stats" -> send(exchange, 200,
+                        "{\"single\":" + singleRequests.get() + ",\"batch\":" + batchRequests.get() + "}");
+                default -> send(exchange, 404, "{}");
+            }
+        }
+    }
+
+    // orderId,customerId,storeId,status
+    private static int loadOrders(String csv) {
+        int added = 0;
+        for (String line : csv.split("\\R")) {
+            String[] columns = line.strip().split(",");
+            if (columns.length == 4 && UUID_PATTERN.matcher(columns[0]).matches()) {
+                orders.put(columns[0].toLowerCase(), columns);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private static String toJson(String[] order) {
+        return "{\"orderId\":\"" + order[0] + "\",\"customerId\":\"" + order[1]
+                + "\",\"storeId\":\"" + order[2] + "\",\"status\":\"" + order[3] + "\"}";
+    }
+
+    private static Map<String, String> queryParams(URI uri) {
+        Map<String, String> params = new ConcurrentHashMap<>();
+        if (uri.getQuery() != null) {
+            for (String pair : uri.getQuery().split("&")) {
+                String[] kv = pair.split("=", 2);
+                if (kv.length == 2) {
+                    params.put(kv[0], kv[1]);
+                }
+            }
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}